@@ -0,0 +1,120 @@
+package com.aladin.todo_api.benchmark;
+
+import com.aladin.todo_api.TodoApiApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.io.File;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * 벤치마크용 SQLite DB 생성 및 애플리케이션 컨텍스트 기동
+ * - target/bench-db/todo-{rows}.db 에 한 번만 생성하고 이후 재사용
+ * */
+public final class BenchmarkDatabase {
+
+    public static final int USERS = 100;
+    public static final String[] WORDS = {"장보기", "회의 준비", "운동하기", "독서 모임", "대청소", "보고서 작성", "병원 예약", "여행 계획"};
+
+    private static final int BATCH_SIZE = 10_000;
+
+    private BenchmarkDatabase() {
+    }
+
+    /*
+     * rows 건의 할일이 들어있는 DB로 컨텍스트 기동 (웹 서버 없이)
+     * */
+    public static ConfigurableApplicationContext start(long rows) throws SQLException {
+        File dir = new File("target/bench-db");
+        if (!dir.exists() && !dir.mkdirs()) {
+            throw new IllegalStateException("벤치마크 DB 디렉터리를 만들 수 없습니다: " + dir.getAbsolutePath());
+        }
+        File file = new File(dir, "todo-" + rows + ".db");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(TodoApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:sqlite:" + file.getAbsolutePath() + "?journal_mode=WAL",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN");
+
+        populate(context, rows);
+        return context;
+    }
+
+    private static void populate(ConfigurableApplicationContext context, long rows) throws SQLException {
+        DataSource dataSource = context.getBean("writerDataSource", DataSource.class);
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+
+            try (ResultSet rs = statement.executeQuery("SELECT COUNT(*) FROM todo")) {
+                rs.next();
+                if (rs.getLong(1) == rows) {
+                    return;
+                }
+            }
+
+            // 대량 적재 중에는 검색 인덱스 트리거를 끄고 마지막에 한 번에 재구성
+            statement.executeUpdate("DELETE FROM todo");
+            List<String> triggers = new ArrayList<>();
+            try (ResultSet rs = statement.executeQuery(
+                    "SELECT name, sql FROM sqlite_master WHERE type = 'trigger' AND tbl_name = 'todo'")) {
+                while (rs.next()) {
+                    triggers.add(rs.getString(1));
+                    triggers.add(rs.getString(2));
+                }
+            }
+            for (int i = 0; i < triggers.size(); i += 2) {
+                statement.executeUpdate("DROP TRIGGER " + triggers.get(i));
+            }
+            statement.executeUpdate("PRAGMA synchronous = OFF");
+
+            connection.setAutoCommit(false);
+            long now = System.currentTimeMillis();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO todo (id, user_id, title, description, status, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+                for (long id = 1; id <= rows; id++) {
+                    insert.setLong(1, id);
+                    insert.setString(2, userId(id));
+                    insert.setString(3, "할일 " + id + " " + WORDS[(int) (id % WORDS.length)]);
+                    insert.setString(4, WORDS[(int) ((id * 7) % WORDS.length)] + " 메모 " + id);
+                    insert.setString(5, id % 3 == 0 ? "COMPLETED" : id % 3 == 1 ? "PENDING" : "IN_PROGRESS");
+                    insert.setLong(6, now);
+                    insert.setLong(7, now);
+                    insert.addBatch();
+                    if (id % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+                insert.executeBatch();
+                connection.commit();
+            }
+            connection.setAutoCommit(true);
+
+            statement.executeUpdate("INSERT INTO todo_fts(todo_fts) VALUES ('rebuild')");
+            statement.executeUpdate("DELETE FROM todo_count");
+            statement.executeUpdate("INSERT INTO todo_count (user_id, status, cnt) " +
+                    "SELECT user_id, status, COUNT(*) FROM todo GROUP BY user_id, status");
+            for (int i = 1; i < triggers.size(); i += 2) {
+                statement.executeUpdate(triggers.get(i));
+            }
+            statement.executeUpdate("PRAGMA synchronous = FULL");
+        }
+    }
+
+    /*
+     * id 를 사용자에게 고르게 분배
+     * */
+    public static String userId(long id) {
+        return "user" + (id % USERS);
+    }
+}
@@ -0,0 +1,42 @@
+package com.aladin.todo_api.benchmark;
+
+import com.aladin.todo_api.todos.SearchType;
+import com.aladin.todo_api.todos.Status;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Status / SearchType 문자열 변환 벤치마크 (잘못된 값은 예외 경로)
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumParsingBenchmark {
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private String status;
+    private String searchType;
+
+    @Setup
+    public void setUp() {
+        boolean valid = "valid".equals(input);
+        status = valid ? "in_progress" : "DONE";
+        searchType = valid ? "title" : "CONTENT";
+    }
+
+    @Benchmark
+    public Status statusFromString() {
+        return Status.fromString(status);
+    }
+
+    @Benchmark
+    public SearchType searchTypeFromString() {
+        return SearchType.fromString(searchType);
+    }
+}
@@ -0,0 +1,86 @@
+package com.aladin.todo_api.benchmark;
+
+import com.aladin.todo_api.todos.SearchType;
+import com.aladin.todo_api.todos.Todo;
+import com.aladin.todo_api.todos.TodoRepository;
+import com.aladin.todo_api.todos.TodoSearchIndex;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * TodoRepository 조회 벤치마크 (10k / 1M / 10M 건)
+ * - 빠른 확인은 -p rows=10000
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoRepositoryBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+    private static final String USER_ID = BenchmarkDatabase.userId(0);
+    private static final String SEARCH_WORD = "보고서";
+
+    @Param({"10000", "1000000", "10000000"})
+    public long rows;
+
+    private ConfigurableApplicationContext context;
+    private TodoRepository todoRepository;
+    private Pageable pageable;
+    private long middleId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkDatabase.start(rows);
+        todoRepository = context.getBean(TodoRepository.class);
+        pageable = PageRequest.of(0, PAGE_SIZE + 1);
+        middleId = (rows / 2) / BenchmarkDatabase.USERS * BenchmarkDatabase.USERS;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Todo> findAllByUserIdWithCount() {
+        return todoRepository.findAllByUserId(USER_ID, PageRequest.of(0, PAGE_SIZE));
+    }
+
+    @Benchmark
+    public List<Todo> findAllByUserIdAfterFirstPage() {
+        return todoRepository.findAllByUserIdAfter(USER_ID, Long.MAX_VALUE, pageable);
+    }
+
+    @Benchmark
+    public List<Todo> findAllByUserIdAfterMiddlePage() {
+        return todoRepository.findAllByUserIdAfter(USER_ID, middleId, pageable);
+    }
+
+    @Benchmark
+    public Optional<Todo> findByIdAndUserId() {
+        long id = ThreadLocalRandom.current().nextLong(rows / BenchmarkDatabase.USERS) * BenchmarkDatabase.USERS;
+        return todoRepository.findByIdAndUserId(id == 0 ? BenchmarkDatabase.USERS : id, USER_ID);
+    }
+
+    @Benchmark
+    public List<Todo> searchTodosLike() {
+        return todoRepository.searchTodos(USER_ID, SearchType.ALL.name(), SEARCH_WORD, Long.MAX_VALUE, pageable);
+    }
+
+    @Benchmark
+    public List<Todo> searchTodosByIndex() {
+        return todoRepository.searchTodosByIndex(USER_ID, TodoSearchIndex.toMatchQuery(SearchType.ALL, SEARCH_WORD),
+                Long.MAX_VALUE, pageable);
+    }
+}
@@ -0,0 +1,84 @@
+package com.aladin.todo_api.benchmark;
+
+import com.aladin.todo_api.common.security.TokenProvider;
+import com.aladin.todo_api.common.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * JWT 발급 / 검증 벤치마크
+ * - findVerifiedToken: 요청 인증 경로 (전용 HS512 검증기)
+ * - jjwtParse: 기존 jjwt 파싱 (비교 기준)
+ * - *Invalid: 서명이 잘못된 토큰 거절 비용 (예외 생성 여부 비교)
+ * - 할당량 비교는 -prof gc 로 실행
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenProviderBenchmark {
+
+    private static final String SECRET = "R5af3IayenGsXFZt6vmA/3xWmP9b5ju+G6vhzX8yXpz1IM+c+qOgE4RP9XL0bEMUfhD7IDJMp5g7rXvmvAQx0g==";
+
+    private TokenProvider tokenProvider;
+    private JwtParser jjwtParser;
+    private String token;
+    private String invalidToken;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new TokenProvider();
+        tokenProvider.setSecretKeyString(SECRET);
+        tokenProvider.setTokenValidityInSeconds(1800);
+        tokenProvider.init();
+        token = tokenProvider.generateToken("aladinUser");
+        invalidToken = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BA" : "AA");
+        jjwtParser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET)))
+                .build();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken("aladinUser");
+    }
+
+    @Benchmark
+    public String validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public VerifiedToken findVerifiedToken() {
+        return tokenProvider.findVerifiedToken(token);
+    }
+
+    @Benchmark
+    public String jjwtParse() {
+        Claims claims = jjwtParser.parseSignedClaims(token).getPayload();
+        return claims.getSubject();
+    }
+
+    @Benchmark
+    public VerifiedToken findVerifiedTokenInvalid() {
+        return tokenProvider.findVerifiedToken(invalidToken);
+    }
+
+    @Benchmark
+    public Object jjwtParseInvalid() {
+        try {
+            return jjwtParser.parseSignedClaims(invalidToken);
+        } catch (JwtException e) {
+            return e;
+        }
+    }
+}
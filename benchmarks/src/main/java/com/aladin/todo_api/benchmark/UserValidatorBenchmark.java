@@ -0,0 +1,64 @@
+package com.aladin.todo_api.benchmark;
+
+import com.aladin.todo_api.users.UserValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 회원 정보 정규식 검증 벤치마크
+ * */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserValidatorBenchmark {
+
+    private final UserValidator userValidator = new UserValidator();
+
+    @Param({"valid", "invalid"})
+    public String input;
+
+    private String userId;
+    private String password;
+    private String phoneNo;
+    private String email;
+    private String username;
+
+    @Setup
+    public void setUp() {
+        boolean valid = "valid".equals(input);
+        userId = valid ? "aladinUser" : "u@#";
+        password = valid ? "Password1!" : "password";
+        phoneNo = valid ? "01012345678" : "010-1234-5678";
+        email = valid ? "aladin@todo.com" : "aladin@todo";
+        username = valid ? "알라딘" : "John";
+    }
+
+    @Benchmark
+    public boolean isValidUserId() {
+        return userValidator.isValidUserId(userId);
+    }
+
+    @Benchmark
+    public boolean isValidPassword() {
+        return userValidator.isValidPassword(password);
+    }
+
+    @Benchmark
+    public boolean isValidPhoneNo() {
+        return userValidator.isValidPhoneNo(phoneNo);
+    }
+
+    @Benchmark
+    public boolean isValidEmail() {
+        return userValidator.isValidEmail(email);
+    }
+
+    @Benchmark
+    public boolean isValidUsername() {
+        return userValidator.isValidUsername(username);
+    }
+}
@@ -0,0 +1,191 @@
+package com.aladin.todo_api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.LockSupport;
+
+/*
+ * 부하 테스트 가상 클라이언트 (스레드 하나)
+ * - 목표 처리량이 있으면 일정한 간격의 예정 시각에 요청 전송 (응답이 늦어도 일정을 미루지 않음)
+ *   늦게 보낸 요청은 예정 시각부터 응답 시간을 측정하여 coordinated omission 보정
+ * - 목표 처리량이 0 이면 응답을 받는 즉시 다음 요청 (보정 없음)
+ * - 자신이 등록한 할일 id 만 조회/수정/삭제 (없으면 등록으로 대체)
+ * */
+public final class LoadClient implements Runnable {
+
+    private static final String[] WORDS = {"장보기", "회의 준비", "운동하기", "독서 모임", "대청소", "보고서 작성", "병원 예약", "여행 계획"};
+    private static final String[] STATUSES = {"PENDING", "IN_PROGRESS", "COMPLETED"};
+
+    private final TodoApiClient api;
+    private final String token;
+    private final Map<Operation, OperationStats> stats;
+    private final Operation[] operations;
+    private final int[] cumulativeWeights;
+    private final Random random;
+    private final List<Long> todoIds = new ArrayList<>();
+    private long sequence;
+
+    private long startNanos;
+    private long measureStartNanos;
+    private long endNanos;
+    private long intervalNanos;
+
+    public LoadClient(TodoApiClient api, String token, Map<Operation, Integer> mix,
+                      Map<Operation, OperationStats> stats, long seed) {
+        this.api = api;
+        this.token = token;
+        this.stats = stats;
+        this.random = new Random(seed);
+
+        this.operations = new Operation[mix.size()];
+        this.cumulativeWeights = new int[mix.size()];
+        int i = 0;
+        int total = 0;
+        for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+            total += entry.getValue();
+            operations[i] = entry.getKey();
+            cumulativeWeights[i] = total;
+            i++;
+        }
+    }
+
+    /*
+     * 측정 전 할일 일괄 등록 (측정에 포함하지 않음)
+     * */
+    public void seed(int count) throws IOException {
+        if (count == 0) {
+            return;
+        }
+        List<Map<String, String>> todos = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            todos.add(newTodo());
+        }
+        TodoApiClient.Response response = api.send("POST", "/todos/batch", token, todos, true);
+        if (!response.isSuccess()) {
+            throw new IllegalStateException("할일 일괄 등록에 실패했습니다: " + response.getStatus());
+        }
+        for (JsonNode id : response.getData()) {
+            todoIds.add(id.asLong());
+        }
+    }
+
+    /*
+     * 실행 구간 지정 (startNanos 부터 요청, measureStartNanos 이후 예정된 요청만 기록)
+     * - 클라이언트마다 예정 시각을 offset 만큼 어긋나게 하여 요청이 한꺼번에 몰리지 않도록 함
+     * */
+    public void schedule(long startNanos, long measureStartNanos, long endNanos, long intervalNanos, long offsetNanos) {
+        this.startNanos = startNanos + offsetNanos;
+        this.measureStartNanos = measureStartNanos;
+        this.endNanos = endNanos;
+        this.intervalNanos = intervalNanos;
+    }
+
+    @Override
+    public void run() {
+        long next = startNanos;
+        while (true) {
+            long intended;
+            if (intervalNanos > 0) {
+                if (next >= endNanos) {
+                    break;
+                }
+                long now;
+                while ((now = System.nanoTime()) < next) {
+                    LockSupport.parkNanos(next - now);
+                }
+                intended = next;
+                next += intervalNanos;
+            } else {
+                intended = System.nanoTime();
+                while (intended < startNanos) {
+                    LockSupport.parkNanos(startNanos - intended);
+                    intended = System.nanoTime();
+                }
+                if (intended >= endNanos) {
+                    break;
+                }
+            }
+
+            Operation operation = pick();
+            long sent = System.nanoTime();
+            int status = execute(operation);
+            long done = System.nanoTime();
+            if (intended >= measureStartNanos) {
+                stats.get(operation).record(status, done - intended, done - sent);
+            }
+        }
+    }
+
+    private Operation pick() {
+        int value = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        Operation operation = operations[operations.length - 1];
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                operation = operations[i];
+                break;
+            }
+        }
+        return operation.needsTodo() && todoIds.isEmpty() ? Operation.CREATE : operation;
+    }
+
+    /*
+     * 요청 실행 후 상태 코드 반환 (연결/시간 초과 오류는 0)
+     * */
+    private int execute(Operation operation) {
+        try {
+            switch (operation) {
+                case CREATE: {
+                    TodoApiClient.Response response = api.send("POST", "/todos", token, newTodo(), true);
+                    if (response.isSuccess()) {
+                        todoIds.add(response.getData().get("id").asLong());
+                    }
+                    return response.getStatus();
+                }
+                case LIST:
+                    return api.send("GET", "/todos", token, null, false).getStatus();
+                case GET:
+                    return api.send("GET", "/todos/" + randomTodoId(), token, null, false).getStatus();
+                case MODIFY: {
+                    Map<String, String> body = new LinkedHashMap<>();
+                    body.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+                    return api.send("PUT", "/todos/" + randomTodoId(), token, body, false).getStatus();
+                }
+                case DELETE: {
+                    Long id = todoIds.remove(random.nextInt(todoIds.size()));
+                    return api.send("DELETE", "/todos/" + id, token, null, false).getStatus();
+                }
+                case SEARCH: {
+                    String word = URLEncoder.encode(WORDS[random.nextInt(WORDS.length)], "UTF-8");
+                    return api.send("GET", "/todos/search?searchType=ALL&searchWord=" + word, token, null, false).getStatus();
+                }
+                default:
+                    throw new IllegalStateException(operation.name());
+            }
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private Long randomTodoId() {
+        return todoIds.get(random.nextInt(todoIds.size()));
+    }
+
+    private Map<String, String> newTodo() {
+        String word = WORDS[random.nextInt(WORDS.length)];
+        Map<String, String> todo = new LinkedHashMap<>();
+        todo.put("title", word + " " + (++sequence));
+        todo.put("description", word + " 부하 테스트 할일");
+        todo.put("status", STATUSES[random.nextInt(STATUSES.length)]);
+        return todo;
+    }
+}
@@ -0,0 +1,254 @@
+package com.aladin.todo_api.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/*
+ * todo-api 부하 테스트 (실행 중인 서버 대상)
+ * 1. 사용자 N명 회원가입 후 로그인하여 토큰 발급
+ * 2. 클라이언트마다 할일을 미리 등록
+ * 3. 워밍업 후 측정 시간 동안 요청 비율(--mix)대로 요청
+ * 4. 요청 종류별 처리량, 오류율, p50/p99/p999 응답 시간 (coordinated omission 보정 전/후) 출력 및 JSON 저장
+ * */
+public final class LoadTest {
+
+    private static final int SETUP_THREADS = 8;
+    private static final int MAX_SETUP_RETRIES = 120;
+    private static final String PASSWORD = "LoadTest!2025";
+    private static final String USERNAME = "부하테스트";
+
+    private static final AtomicBoolean RATE_LIMIT_WARNED = new AtomicBoolean();
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        // HttpURLConnection 의 keep-alive 연결 캐시는 기본 5개이므로 클라이언트 수만큼 늘려 매 요청 새 연결 방지
+        System.setProperty("http.maxConnections", String.valueOf(Math.max(5, options.getClients())));
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        TodoApiClient api = new TodoApiClient(options.getBaseUrl(), objectMapper);
+
+        System.out.printf("대상: %s, 사용자 %d명, 클라이언트 %d개, 목표 %s, 요청 비율 %s%n",
+                options.getBaseUrl(), options.getUsers(), options.getClients(),
+                options.getRate() > 0 ? String.format("%.0f req/s", options.getRate()) : "최대 처리량 (보정 없음)",
+                options.getMix());
+
+        ExecutorService setup = Executors.newFixedThreadPool(Math.min(SETUP_THREADS, options.getClients()));
+        List<String> tokens;
+        List<LoadClient> clients = new ArrayList<>(options.getClients());
+        Map<Operation, OperationStats> stats = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            stats.put(operation, new OperationStats(operation));
+        }
+        try {
+            long setupStart = System.nanoTime();
+            List<Callable<String>> signups = new ArrayList<>(options.getUsers());
+            for (int i = 0; i < options.getUsers(); i++) {
+                String userId = String.format("%s%05d", options.getUserPrefix(), i);
+                String phoneNo = String.format("010%08d", i);
+                signups.add(() -> signUpAndLogin(api, userId, phoneNo));
+            }
+            tokens = getAll(setup.invokeAll(signups));
+
+            List<Callable<Void>> seeds = new ArrayList<>(options.getClients());
+            for (int i = 0; i < options.getClients(); i++) {
+                LoadClient client = new LoadClient(api, tokens.get(i % tokens.size()), options.getMix(), stats, i);
+                clients.add(client);
+                seeds.add(() -> {
+                    client.seed(options.getSeedTodos());
+                    return null;
+                });
+            }
+            getAll(setup.invokeAll(seeds));
+            System.out.printf("준비 완료 (%d초): 사용자 %d명 로그인, 클라이언트별 할일 %d건 등록%n",
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - setupStart), tokens.size(), options.getSeedTodos());
+        } finally {
+            setup.shutdown();
+        }
+
+        // 전체 목표 처리량을 클라이언트 수로 나눈 간격으로 요청
+        long intervalNanos = options.getRate() > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) * options.getClients() / options.getRate()) : 0;
+        long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+        long measureStart = start + TimeUnit.SECONDS.toNanos(options.getWarmupSeconds());
+        long end = measureStart + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+
+        List<Thread> threads = new ArrayList<>(clients.size());
+        for (int i = 0; i < clients.size(); i++) {
+            LoadClient client = clients.get(i);
+            client.schedule(start, measureStart, end, intervalNanos, intervalNanos * i / clients.size());
+            Thread thread = new Thread(client, "load-client-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+        }
+        System.out.printf("워밍업 %d초, 측정 %d초 진행 중...%n", options.getWarmupSeconds(), options.getDurationSeconds());
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        report(options, stats, objectMapper);
+    }
+
+    /*
+     * 회원가입 후 로그인하여 AccessToken 반환 (이미 가입된 사용자는 로그인만 성공하면 됨)
+     * */
+    private static String signUpAndLogin(TodoApiClient api, String userId, String phoneNo) throws Exception {
+        Map<String, String> signup = new LinkedHashMap<>();
+        signup.put("userId", userId);
+        signup.put("username", USERNAME);
+        signup.put("password", PASSWORD);
+        signup.put("confirmPassword", PASSWORD);
+        signup.put("phoneNo", phoneNo);
+        signup.put("email", userId + "@loadtest.local");
+        TodoApiClient.Response signupResponse = postWithRetry(api, "/users/signup", signup);
+
+        Map<String, String> login = new LinkedHashMap<>();
+        login.put("userId", userId);
+        login.put("password", PASSWORD);
+        TodoApiClient.Response loginResponse = postWithRetry(api, "/users/login", login);
+        if (!loginResponse.isSuccess()) {
+            throw new IllegalStateException("로그인에 실패했습니다: " + userId
+                    + " (회원가입 " + signupResponse.getStatus() + ", 로그인 " + loginResponse.getStatus() + ")");
+        }
+        return loginResponse.getData().asText();
+    }
+
+    /*
+     * 요청 제한(429), 과부하(503) 응답은 Retry-After 만큼 기다린 후 재시도
+     * */
+    private static TodoApiClient.Response postWithRetry(TodoApiClient api, String path, Object body)
+            throws IOException, InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            TodoApiClient.Response response = api.send("POST", path, null, body, true);
+            if ((response.getStatus() != 429 && response.getStatus() != 503) || attempt >= MAX_SETUP_RETRIES) {
+                return response;
+            }
+            if (response.getStatus() == 429 && RATE_LIMIT_WARNED.compareAndSet(false, true)) {
+                System.out.println("로그인/회원가입 요청 제한(429)으로 대기합니다. "
+                        + "서버를 --security.rate-limit.address.capacity=100000 옵션으로 실행하면 대기하지 않습니다.");
+            }
+            Thread.sleep(TimeUnit.SECONDS.toMillis(Math.max(1, response.getRetryAfterSeconds())));
+        }
+    }
+
+    private static <T> List<T> getAll(List<Future<T>> futures) throws Exception {
+        List<T> results = new ArrayList<>(futures.size());
+        for (Future<T> future : futures) {
+            results.add(future.get());
+        }
+        return results;
+    }
+
+    /*
+     * 요청 종류별 결과 출력 및 JSON 저장
+     * */
+    private static void report(LoadTestOptions options, Map<Operation, OperationStats> stats,
+                               ObjectMapper objectMapper) throws IOException {
+        double seconds = options.getDurationSeconds();
+        Histogram totalCorrected = new Histogram(3);
+        Histogram totalUncorrected = new Histogram(3);
+        long totalErrors = 0;
+
+        System.out.println();
+        System.out.printf("%-20s %9s %9s %8s %9s %9s %9s %9s | %9s %9s %9s%n", "endpoint", "count", "req/s", "errors",
+                "p50(ms)", "p99(ms)", "p999(ms)", "max(ms)", "raw p50", "raw p99", "raw p999");
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (OperationStats stat : stats.values()) {
+            if (stat.getCount() == 0) {
+                continue;
+            }
+            totalCorrected.add(stat.getCorrected());
+            totalUncorrected.add(stat.getUncorrected());
+            totalErrors += stat.getErrorCount();
+            printRow(stat.getOperation().getEndpoint(), stat.getCorrected(), stat.getUncorrected(), stat.getErrorCount(), seconds);
+
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("endpoint", stat.getOperation().getEndpoint());
+            endpoint.putAll(summarize(stat.getCorrected(), stat.getUncorrected(), stat.getErrorCount(), seconds));
+            endpoint.put("errors", stat.getErrors());
+            endpoints.add(endpoint);
+        }
+        printRow("TOTAL", totalCorrected, totalUncorrected, totalErrors, seconds);
+
+        for (OperationStats stat : stats.values()) {
+            if (!stat.getErrors().isEmpty()) {
+                System.out.printf("오류 응답 %s: %s%n", stat.getOperation().getEndpoint(), stat.getErrors());
+            }
+        }
+        double throughput = totalCorrected.getTotalCount() / seconds;
+        if (options.getRate() > 0 && throughput < options.getRate() * 0.95) {
+            System.out.printf("목표 처리량 미달: %.0f / %.0f req/s (서버 또는 부하 발생기 포화, 보정된 응답 시간 참고)%n",
+                    throughput, options.getRate());
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("baseUrl", options.getBaseUrl());
+        result.put("users", options.getUsers());
+        result.put("clients", options.getClients());
+        result.put("targetRate", options.getRate());
+        result.put("durationSeconds", options.getDurationSeconds());
+        result.put("mix", options.getMix());
+        result.put("total", summarize(totalCorrected, totalUncorrected, totalErrors, seconds));
+        result.put("endpoints", endpoints);
+
+        File output = new File(options.getOutput());
+        if (output.getParentFile() != null && !output.getParentFile().exists() && !output.getParentFile().mkdirs()) {
+            throw new IOException("결과 디렉터리를 만들 수 없습니다: " + output.getParentFile().getAbsolutePath());
+        }
+        objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT).writeValue(output, result);
+        System.out.println("결과 저장: " + output.getAbsolutePath());
+    }
+
+    private static void printRow(String name, Histogram corrected, Histogram uncorrected, long errors, double seconds) {
+        long count = corrected.getTotalCount();
+        System.out.printf("%-20s %9d %9.1f %7.2f%% %9.2f %9.2f %9.2f %9.2f | %9.2f %9.2f %9.2f%n", name, count,
+                count / seconds, count == 0 ? 0 : 100.0 * errors / count,
+                millis(corrected, 50), millis(corrected, 99), millis(corrected, 99.9), corrected.getMaxValue() / 1000.0,
+                millis(uncorrected, 50), millis(uncorrected, 99), millis(uncorrected, 99.9));
+    }
+
+    private static Map<String, Object> summarize(Histogram corrected, Histogram uncorrected, long errors, double seconds) {
+        long count = corrected.getTotalCount();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", count);
+        summary.put("throughput", count / seconds);
+        summary.put("errorRate", count == 0 ? 0 : (double) errors / count);
+        summary.put("latencyMs", percentiles(corrected));
+        summary.put("uncorrectedLatencyMs", percentiles(uncorrected));
+        return summary;
+    }
+
+    private static Map<String, Double> percentiles(Histogram histogram) {
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        percentiles.put("p50", millis(histogram, 50));
+        percentiles.put("p99", millis(histogram, 99));
+        percentiles.put("p999", millis(histogram, 99.9));
+        percentiles.put("max", histogram.getMaxValue() / 1000.0);
+        return percentiles;
+    }
+
+    // 마이크로초 단위 기록을 밀리초로 변환
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
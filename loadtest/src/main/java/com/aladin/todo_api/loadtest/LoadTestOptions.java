@@ -0,0 +1,160 @@
+package com.aladin.todo_api.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/*
+ * 부하 테스트 옵션 (--이름=값)
+ * --base-url      대상 서버 주소 (기본 http://localhost:8080)
+ * --users         가입/로그인할 사용자 수 (기본 20)
+ * --clients       동시 클라이언트 수, 사용자를 번갈아 사용 (기본 50)
+ * --rate          전체 목표 요청 수/초, 0 이면 응답 즉시 다음 요청 (기본 200)
+ * --warmup        측정 전 워밍업 시간(초) (기본 10)
+ * --duration      측정 시간(초) (기본 60)
+ * --seed          클라이언트별 미리 등록할 할일 수 (기본 20)
+ * --user-prefix   사용자 ID 접두어, 영문/숫자 7자 이하 (기본 load)
+ * --mix           요청 비율 (기본 create=15,list=35,get=20,modify=15,delete=5,search=10)
+ * --output        결과 JSON 파일 (기본 target/loadtest-result.json)
+ * */
+public final class LoadTestOptions {
+
+    private static final String DEFAULT_MIX = "create=15,list=35,get=20,modify=15,delete=5,search=10";
+
+    private String baseUrl = "http://localhost:8080";
+    private int users = 20;
+    private int clients = 50;
+    private double rate = 200;
+    private int warmupSeconds = 10;
+    private int durationSeconds = 60;
+    private int seedTodos = 20;
+    private String userPrefix = "load";
+    private Map<Operation, Integer> mix = parseMix(DEFAULT_MIX);
+    private String output = "target/loadtest-result.json";
+
+    private LoadTestOptions() {
+    }
+
+    public static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("옵션은 --이름=값 형식이어야 합니다: " + arg);
+            }
+            String name = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (name) {
+                case "base-url":
+                    options.baseUrl = value.endsWith("/") ? value.substring(0, value.length() - 1) : value;
+                    break;
+                case "users":
+                    options.users = positive(name, Integer.parseInt(value));
+                    break;
+                case "clients":
+                    options.clients = positive(name, Integer.parseInt(value));
+                    break;
+                case "rate":
+                    options.rate = Double.parseDouble(value);
+                    break;
+                case "warmup":
+                    options.warmupSeconds = Integer.parseInt(value);
+                    break;
+                case "duration":
+                    options.durationSeconds = positive(name, Integer.parseInt(value));
+                    break;
+                case "seed":
+                    options.seedTodos = Integer.parseInt(value);
+                    break;
+                case "user-prefix":
+                    if (!value.matches("^[a-zA-Z0-9]{1,7}$")) {
+                        throw new IllegalArgumentException("사용자 ID 접두어는 영문/숫자 7자 이하여야 합니다: " + value);
+                    }
+                    options.userPrefix = value;
+                    break;
+                case "mix":
+                    options.mix = parseMix(value);
+                    break;
+                case "output":
+                    options.output = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 옵션입니다: " + name);
+            }
+        }
+        if (options.rate < 0 || options.warmupSeconds < 0 || options.seedTodos < 0) {
+            throw new IllegalArgumentException("rate, warmup, seed 는 0 이상이어야 합니다.");
+        }
+        return options;
+    }
+
+    /*
+     * create=15,list=35,... 형식의 요청 비율
+     * */
+    private static Map<Operation, Integer> parseMix(String value) {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        int total = 0;
+        for (String entry : value.split(",")) {
+            String[] pair = entry.split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("요청 비율은 이름=비율 형식이어야 합니다: " + entry);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("요청 비율은 0 이상이어야 합니다: " + entry);
+            }
+            mix.put(Operation.fromString(pair[0]), weight);
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("요청 비율의 합은 0보다 커야 합니다.");
+        }
+        return mix;
+    }
+
+    private static int positive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " 는 1 이상이어야 합니다.");
+        }
+        return value;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public int getClients() {
+        return clients;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getSeedTodos() {
+        return seedTodos;
+    }
+
+    public String getUserPrefix() {
+        return userPrefix;
+    }
+
+    public Map<Operation, Integer> getMix() {
+        return mix;
+    }
+
+    public String getOutput() {
+        return output;
+    }
+}
@@ -0,0 +1,40 @@
+package com.aladin.todo_api.loadtest;
+
+/*
+ * 부하 테스트 요청 종류 (--mix 의 키는 소문자 이름)
+ * */
+public enum Operation {
+    CREATE("POST /todos", false),
+    LIST("GET /todos", false),
+    GET("GET /todos/{id}", true),
+    MODIFY("PUT /todos/{id}", true),
+    DELETE("DELETE /todos/{id}", true),
+    SEARCH("GET /todos/search", false);
+
+    private final String endpoint;
+    private final boolean needsTodo;
+
+    Operation(String endpoint, boolean needsTodo) {
+        this.endpoint = endpoint;
+        this.needsTodo = needsTodo;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /*
+     * 기존 할일 id 가 필요한 요청 (클라이언트가 가진 할일이 없으면 CREATE 로 대체)
+     * */
+    public boolean needsTodo() {
+        return needsTodo;
+    }
+
+    public static Operation fromString(String name) {
+        try {
+            return Operation.valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("알 수 없는 요청 종류입니다: " + name);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.aladin.todo_api.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 요청 종류별 응답 시간 분포와 오류 건수
+ * - corrected: 예정된 전송 시각부터 응답까지 (서버가 밀려 늦게 보낸 요청의 대기 시간 포함, coordinated omission 보정)
+ * - uncorrected: 실제 전송 시각부터 응답까지
+ * - 응답 시간은 마이크로초 단위, 오류 응답도 분포에 포함
+ * */
+public final class OperationStats {
+
+    private static final String IO_ERROR = "io";
+
+    private final Operation operation;
+    private final Histogram corrected = new ConcurrentHistogram(3);
+    private final Histogram uncorrected = new ConcurrentHistogram(3);
+    private final LongAdder errorCount = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public OperationStats(Operation operation) {
+        this.operation = operation;
+    }
+
+    /*
+     * 요청 결과 기록 (status 가 0 이하면 연결/시간 초과 오류)
+     * */
+    public void record(int status, long correctedNanos, long uncorrectedNanos) {
+        corrected.recordValue(TimeUnit.NANOSECONDS.toMicros(correctedNanos));
+        uncorrected.recordValue(TimeUnit.NANOSECONDS.toMicros(uncorrectedNanos));
+        if (status < 200 || status >= 300) {
+            errorCount.increment();
+            errors.computeIfAbsent(status <= 0 ? IO_ERROR : String.valueOf(status), key -> new LongAdder()).increment();
+        }
+    }
+
+    public Operation getOperation() {
+        return operation;
+    }
+
+    public long getCount() {
+        return corrected.getTotalCount();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    // 상태 코드별 오류 건수
+    public Map<String, Long> getErrors() {
+        Map<String, Long> result = new TreeMap<>();
+        errors.forEach((status, count) -> result.put(status, count.sum()));
+        return result;
+    }
+
+    public Histogram getCorrected() {
+        return corrected;
+    }
+
+    public Histogram getUncorrected() {
+        return uncorrected;
+    }
+}
@@ -0,0 +1,116 @@
+package com.aladin.todo_api.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/*
+ * todo-api HTTP 클라이언트 (HttpURLConnection, keep-alive 연결 재사용)
+ * - 연결을 재사용할 수 있도록 응답 본문은 항상 끝까지 읽음 (JSON 파싱은 필요한 경우만)
+ * */
+public final class TodoApiClient {
+
+    private static final int CONNECT_TIMEOUT_MILLIS = 5_000;
+    private static final int READ_TIMEOUT_MILLIS = 30_000;
+
+    private static final ThreadLocal<byte[]> DRAIN_BUFFER = ThreadLocal.withInitial(() -> new byte[8192]);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+
+    public TodoApiClient(String baseUrl, ObjectMapper objectMapper) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+    }
+
+    /*
+     * 요청 전송 후 상태 코드 반환, parseBody 이면 응답 JSON 도 함께 반환
+     * */
+    public Response send(String method, String path, String token, Object body, boolean parseBody) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestMethod(method);
+        connection.setConnectTimeout(CONNECT_TIMEOUT_MILLIS);
+        connection.setReadTimeout(READ_TIMEOUT_MILLIS);
+        connection.setRequestProperty("Accept", "application/json");
+        if (token != null) {
+            connection.setRequestProperty("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            byte[] json = objectMapper.writeValueAsBytes(body);
+            connection.setDoOutput(true);
+            connection.setFixedLengthStreamingMode(json.length);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(json);
+            }
+        }
+
+        int status = connection.getResponseCode();
+        long retryAfterSeconds = connection.getHeaderFieldLong("Retry-After", 1);
+        InputStream in = status >= 400 ? connection.getErrorStream() : connection.getInputStream();
+        if (in == null) {
+            return new Response(status, null, retryAfterSeconds);
+        }
+        try {
+            if (parseBody) {
+                return new Response(status, objectMapper.readTree(readAll(in)), retryAfterSeconds);
+            }
+            byte[] buffer = DRAIN_BUFFER.get();
+            while (in.read(buffer) >= 0) {
+                // 본문을 끝까지 읽어야 연결이 재사용됨
+            }
+            return new Response(status, null, retryAfterSeconds);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = DRAIN_BUFFER.get();
+        int read;
+        while ((read = in.read(buffer)) >= 0) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+
+    public static final class Response {
+        private final int status;
+        private final JsonNode body;
+        private final long retryAfterSeconds;
+
+        Response(int status, JsonNode body, long retryAfterSeconds) {
+            this.status = status;
+            this.body = body;
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        public JsonNode getBody() {
+            return body;
+        }
+
+        // 응답 공통 형식의 data 필드
+        public JsonNode getData() {
+            return body == null ? null : body.get("data");
+        }
+
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+}
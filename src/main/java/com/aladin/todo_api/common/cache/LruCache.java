@@ -0,0 +1,148 @@
+package com.aladin.todo_api.common.cache;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntBiFunction;
+
+/*
+ * 프로세스 내 LRU 캐시
+ * - 최대 항목 수 / 최대 가중치(메모리 추정치)를 넘으면 가장 오래 사용되지 않은 항목부터 제거
+ * - 항목별 만료 시각(epoch millis)을 지정할 수 있음
+ * - 조회 적중/실패, 제거 건수 집계
+ * */
+public class LruCache<K, V> {
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final ToIntBiFunction<K, V> weigher;
+
+    private final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalWeight;
+
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+
+    public LruCache(int maxEntries) {
+        this(maxEntries, Long.MAX_VALUE, (key, value) -> 1);
+    }
+
+    public LruCache(int maxEntries, long maxWeight, ToIntBiFunction<K, V> weigher) {
+        if (maxEntries < 1 || maxWeight < 1) {
+            throw new IllegalArgumentException("캐시 크기는 1 이상이어야 합니다.");
+        }
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    /*
+     * 조회 (없거나 만료된 경우 null)
+     * */
+    public synchronized V get(K key) {
+        Entry<V> entry = map.get(key);
+        if (entry == null) {
+            missCount.incrementAndGet();
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            removeEntry(key);
+            missCount.incrementAndGet();
+            return null;
+        }
+        hitCount.incrementAndGet();
+        return entry.value;
+    }
+
+    public void put(K key, V value) {
+        put(key, value, Long.MAX_VALUE);
+    }
+
+    /*
+     * 저장 (expiresAt 이후에는 조회되지 않음)
+     * */
+    public synchronized void put(K key, V value, long expiresAt) {
+        int weight = weigher.applyAsInt(key, value);
+        Entry<V> previous = map.put(key, new Entry<>(value, weight, expiresAt));
+        if (previous != null) {
+            totalWeight -= previous.weight;
+        }
+        totalWeight += weight;
+        evict();
+    }
+
+    public synchronized V remove(K key) {
+        Entry<V> entry = removeEntry(key);
+        return entry == null ? null : entry.value;
+    }
+
+    public synchronized void clear() {
+        map.clear();
+        totalWeight = 0;
+    }
+
+    public synchronized int size() {
+        return map.size();
+    }
+
+    public synchronized long weight() {
+        return totalWeight;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    private Entry<V> removeEntry(K key) {
+        Entry<V> entry = map.remove(key);
+        if (entry != null) {
+            totalWeight -= entry.weight;
+        }
+        return entry;
+    }
+
+    /*
+     * 용량 초과 시 LRU 순서대로 제거
+     * */
+    private void evict() {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = map.entrySet().iterator();
+        while ((map.size() > maxEntries || totalWeight > maxWeight) && iterator.hasNext()) {
+            Entry<V> eldest = iterator.next().getValue();
+            iterator.remove();
+            totalWeight -= eldest.weight;
+            evictionCount.incrementAndGet();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final int weight;
+        private final long expiresAt;
+
+        private Entry(V value, int weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
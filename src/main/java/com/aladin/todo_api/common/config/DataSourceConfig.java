@@ -0,0 +1,129 @@
+package com.aladin.todo_api.common.config;
+
+import com.aladin.todo_api.common.db.MeteredDataSource;
+import com.aladin.todo_api.common.db.ReadOnlyRoutingDataSource;
+import com.aladin.todo_api.common.db.SlowQueryLog;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.sqlite.SQLiteOpenMode;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.HashMap;
+import java.util.Map;
+
+/*
+ * SQLite3 WAL 모드 커넥션 풀 구성
+ * - 쓰기: 커넥션 1개 (SQLite 는 동시에 하나의 쓰기만 허용)
+ * - 읽기: SQLITE_OPEN_READONLY 로 연 커넥션 여러 개 (@Transactional(readOnly = true))
+ * - 커넥션 대기 시간(hikaricp.connections.acquire)과 문장 실행 시간(jdbc.statement) 측정, 느린 문장 기록
+ * */
+@Configuration
+public class DataSourceConfig {
+
+    @Value("${sqlite.reader.pool-size:0}")
+    private int readerPoolSize;
+
+    @Bean
+    public HikariDataSource writerDataSource(DataSourceProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("sqlite-writer");
+        dataSource.setMetricsTrackerFactory(metricsTrackerFactory(meterRegistry));
+        dataSource.setMaximumPoolSize(1);
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource readerDataSource(DataSourceProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("sqlite-reader");
+        dataSource.setMetricsTrackerFactory(metricsTrackerFactory(meterRegistry));
+        // 설정이 없으면 CPU 코어 수만큼
+        dataSource.setMaximumPoolSize(readerPoolSize > 0 ? readerPoolSize : Runtime.getRuntime().availableProcessors());
+        dataSource.setReadOnly(true);
+        dataSource.addDataSourceProperty("open_mode", String.valueOf(SQLiteOpenMode.READONLY.flag));
+        return dataSource;
+    }
+
+    /*
+     * 읽기 커넥션 풀 + 문장 실행 시간 측정, 느린 문장 기록 (JPA 읽기 트랜잭션과 JdbcTemplate 직접 조회에서 공용)
+     * */
+    @Bean
+    public DataSource meteredReaderDataSource(@Qualifier("readerDataSource") DataSource readerDataSource,
+                                              ObjectProvider<MeterRegistry> meterRegistry,
+                                              SlowQueryLog slowQueryLog) {
+        return new MeteredDataSource(readerDataSource, meterRegistry, slowQueryLog, "reader");
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writerDataSource") DataSource writerDataSource,
+                                 @Qualifier("meteredReaderDataSource") DataSource meteredReaderDataSource,
+                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                 SlowQueryLog slowQueryLog) {
+        DataSource meteredWriter = new MeteredDataSource(writerDataSource, meterRegistry, slowQueryLog, "writer");
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(ReadOnlyRoutingDataSource.WRITER, meteredWriter);
+        targetDataSources.put(ReadOnlyRoutingDataSource.READER, meteredReaderDataSource);
+
+        ReadOnlyRoutingDataSource routingDataSource = new ReadOnlyRoutingDataSource();
+        routingDataSource.setTargetDataSources(targetDataSources);
+        routingDataSource.setDefaultTargetDataSource(meteredWriter);
+        routingDataSource.afterPropertiesSet();
+
+        // 기본값을 지정하여 생성 시점에 커넥션을 열지 않음 (풀 시작 시 메트릭 등록과 순환 방지)
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(routingDataSource);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_SERIALIZABLE); // SQLite 는 항상 SERIALIZABLE
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    /*
+     * 커넥션 풀 메트릭 (풀이 시작될 때 MeterRegistry 조회)
+     * - 마이그레이션이 메트릭 자동 구성보다 먼저 풀을 시작하므로 생성 시점에 등록
+     * */
+    private static MetricsTrackerFactory metricsTrackerFactory(ObjectProvider<MeterRegistry> meterRegistry) {
+        return (poolName, poolStats) -> new MicrometerMetricsTrackerFactory(meterRegistry.getObject()).create(poolName, poolStats);
+    }
+
+    /*
+     * 스키마 마이그레이션이 끝난 뒤 JPA 초기화
+     * */
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaMigratorDependsOnPostProcessor() {
+        return new EntityManagerFactoryDependsOnPostProcessor("schemaMigrator");
+    }
+
+    /*
+     * 읽기 전용 커넥션은 열 때부터 readOnly 이므로 트랜잭션마다 readOnly 플래그를 바꾸지 않음
+     * (sqlite-jdbc 는 연결 후 readOnly 변경 시 예외 발생)
+     * */
+    @Bean
+    public static BeanPostProcessor jpaVendorAdapterPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+                if (bean instanceof HibernateJpaVendorAdapter) {
+                    ((HibernateJpaVendorAdapter) bean).setPrepareConnection(false);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.aladin.todo_api.common.config;
+
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.core.config.DefaultConfiguration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collections;
+
+/*
+ * Hibernate 2차 캐시 (JCache / Ehcache, 힙 메모리)
+ * - user 영역: 최대 항목 수와 TTL 제한, 엔티티 수정/삭제 시 Hibernate 가 갱신 (READ_WRITE)
+ * - 영역별 적중률은 hibernate.second.level.cache.requests 메트릭으로 노출 (hibernate.generate_statistics)
+ * */
+@Configuration
+public class HibernateCacheConfig {
+
+    public static final String USER_REGION = "user";
+
+    /*
+     * 애플리케이션 컨텍스트마다 별도 CacheManager 생성 (전역 CachingProvider 에 등록하지 않음)
+     * */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${user.cache.max-entries:10000}") long maxEntries,
+                                              @Value("${user.cache.ttl-seconds:600}") long ttlSeconds) {
+        DefaultConfiguration configuration = new DefaultConfiguration(
+                Collections.singletonMap(USER_REGION,
+                        CacheConfigurationBuilder.newCacheConfigurationBuilder(Object.class, Object.class,
+                                        ResourcePoolsBuilder.heap(maxEntries))
+                                .withExpiry(ExpiryPolicyBuilder.timeToLiveExpiration(Duration.ofSeconds(ttlSeconds)))
+                                .build()),
+                getClass().getClassLoader());
+        return new EhcacheCachingProvider().getCacheManager(URI.create("urn:todo-api:hibernate"), configuration);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheManagerCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+    }
+}
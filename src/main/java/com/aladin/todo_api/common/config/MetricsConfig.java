@@ -0,0 +1,88 @@
+package com.aladin.todo_api.common.config;
+
+import com.aladin.todo_api.common.security.VerifiedTokenCache;
+import com.aladin.todo_api.todos.TodoListCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.actuate.metrics.web.servlet.WebMvcTagsContributor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.HandlerMethod;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.function.ToDoubleFunction;
+
+/*
+ * 메트릭 구성 (/actuator/prometheus 로 수집)
+ * - http.server.requests: 컨트롤러 메서드별 응답 시간 히스토그램 (handler 태그)
+ * - jdbc.statement, hikaricp.connections.acquire: DB 문장 실행 / 커넥션 대기 시간 (DataSourceConfig)
+ * - security.jwt.verification, security.password.hash: JWT 검증 / BCrypt 시간
+ * - cache.gets, cache.evictions, cache.size: 애플리케이션 캐시(jwt, todoList) 적중/실패/제거 건수와 항목 수
+ * */
+@Configuration
+public class MetricsConfig {
+
+    private static final Tag NO_HANDLER = Tag.of("handler", "none");
+
+    /*
+     * http.server.requests 에 처리한 컨트롤러 메서드 이름 태그 추가 (예: TodoController.getTodos)
+     * */
+    @Bean
+    public WebMvcTagsContributor handlerTagsContributor() {
+        return new WebMvcTagsContributor() {
+            @Override
+            public Iterable<Tag> getTags(HttpServletRequest request, HttpServletResponse response,
+                                         Object handler, Throwable exception) {
+                if (handler instanceof HandlerMethod) {
+                    HandlerMethod method = (HandlerMethod) handler;
+                    return Tags.of("handler", method.getBeanType().getSimpleName() + "." + method.getMethod().getName());
+                }
+                return Tags.of(NO_HANDLER);
+            }
+
+            @Override
+            public Iterable<Tag> getLongRequestTags(HttpServletRequest request, Object handler) {
+                return Tags.empty();
+            }
+        };
+    }
+
+    /*
+     * 검증된 JWT 캐시, 할일 목록 캐시 메트릭 (수집 시점에 캐시의 누적 건수를 읽음)
+     * */
+    @Bean
+    public MeterBinder applicationCacheMetrics(VerifiedTokenCache verifiedTokenCache, TodoListCache todoListCache) {
+        return registry -> {
+            bindCache(registry, "jwt", verifiedTokenCache, VerifiedTokenCache::getHitCount,
+                    VerifiedTokenCache::getMissCount, VerifiedTokenCache::getEvictionCount, VerifiedTokenCache::size);
+            bindCache(registry, "todoList", todoListCache, TodoListCache::getHitCount,
+                    TodoListCache::getMissCount, TodoListCache::getEvictionCount, TodoListCache::size);
+            Gauge.builder("cache.estimated.bytes", todoListCache, TodoListCache::getEstimatedBytes)
+                    .tag("cache", "todoList")
+                    .baseUnit("bytes")
+                    .register(registry);
+        };
+    }
+
+    private static <T> void bindCache(MeterRegistry registry, String name, T cache,
+                                      ToDoubleFunction<T> hits, ToDoubleFunction<T> misses,
+                                      ToDoubleFunction<T> evictions, ToDoubleFunction<T> size) {
+        FunctionCounter.builder("cache.gets", cache, hits)
+                .tags("cache", name, "result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, misses)
+                .tags("cache", name, "result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, evictions)
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", cache, size)
+                .tag("cache", name)
+                .register(registry);
+    }
+}
@@ -1,6 +1,7 @@
 package com.aladin.todo_api.common.config;
 
 import com.aladin.todo_api.common.security.JwtAuthenticationFilter;
+import com.aladin.todo_api.common.security.LoginRateLimitFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -19,6 +20,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LoginRateLimitFilter loginRateLimitFilter;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -38,9 +40,12 @@ public class SecurityConfig {
                 .and()
                 .authorizeHttpRequests(auth -> auth
                         .antMatchers("/users/login", "/users/signup").permitAll()
+                        .antMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .antMatchers("/actuator/slowqueries/**").hasRole("ADMIN") // 느린 SQL 은 SQL 문이 노출되므로 관리자만
                         .anyRequest().authenticated()
                 )
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class) // jwt 검증 필터 추가
+                .addFilterBefore(loginRateLimitFilter, JwtAuthenticationFilter.class) // 로그인/회원가입 요청 제한 필터 추가
                 .build();
     }
 }
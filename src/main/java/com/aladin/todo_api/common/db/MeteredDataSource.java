@@ -0,0 +1,195 @@
+package com.aladin.todo_api.common.db;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * JDBC 문장 실행 시간 측정 DataSource
+ * - Connection, Statement 를 프록시로 감싸 execute* 호출 시간을 jdbc.statement 타이머에 기록
+ * - 기준 시간을 넘은 문장은 SQL 과 함께 SlowQueryLog 에 기록 (바인딩 값은 가로채지 않음)
+ * - 타이머는 풀(writer/reader)과 종류(query/update/batch)별로 한 번만 만들어 두어 실행마다 조회하지 않음
+ * - MeterRegistry 는 DataSource 메트릭 바인딩과 순환 의존이 생기므로 첫 문장 실행 시점에 조회
+ * */
+public class MeteredDataSource extends DelegatingDataSource {
+
+    public static final String METRIC_NAME = "jdbc.statement";
+
+    private static final String QUERY = "query";
+    private static final String UPDATE = "update";
+    private static final String BATCH = "batch";
+
+    private final ObjectProvider<MeterRegistry> registryProvider;
+    private final SlowQueryLog slowQueryLog;
+    private final String pool;
+    private volatile StatementTimers timers;
+
+    public MeteredDataSource(DataSource target, ObjectProvider<MeterRegistry> registryProvider,
+                             SlowQueryLog slowQueryLog, String pool) {
+        super(target);
+        this.registryProvider = registryProvider;
+        this.slowQueryLog = slowQueryLog;
+        this.pool = pool;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(MeteredDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private StatementTimers timers() {
+        StatementTimers current = timers;
+        if (current == null) {
+            // 동시에 만들어도 같은 타이머가 반환되므로 잠금 없이 초기화
+            current = new StatementTimers(registryProvider.getObject(), pool);
+            timers = current;
+        }
+        return current;
+    }
+
+    /*
+     * 실행 메서드 이름으로 문장 종류 판단 (실행 메서드가 아니면 null)
+     * */
+    private static String typeOf(String methodName) {
+        if (!methodName.startsWith("execute")) {
+            return null;
+        }
+        if (methodName.equals("executeQuery")) {
+            return QUERY;
+        }
+        if (methodName.endsWith("Batch")) {
+            return BATCH;
+        }
+        return UPDATE;
+    }
+
+    private static Object invoke(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        // 프록시 자신과 비교 (Spring 커넥션 관리에서 같은 커넥션인지 확인)
+        if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+            return proxy == args[0];
+        }
+        if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+            return System.identityHashCode(proxy);
+        }
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class StatementTimers {
+
+        private final Timer queryTimer;
+        private final Timer updateTimer;
+        private final Timer batchTimer;
+
+        StatementTimers(MeterRegistry registry, String pool) {
+            this.queryTimer = timer(registry, pool, QUERY);
+            this.updateTimer = timer(registry, pool, UPDATE);
+            this.batchTimer = timer(registry, pool, BATCH);
+        }
+
+        private static Timer timer(MeterRegistry registry, String pool, String type) {
+            return Timer.builder(METRIC_NAME)
+                    .description("JDBC 문장 실행 시간")
+                    .tag("pool", pool)
+                    .tag("type", type)
+                    .register(registry);
+        }
+
+        Timer get(String type) {
+            if (type.equals(QUERY)) {
+                return queryTimer;
+            }
+            return type.equals(BATCH) ? batchTimer : updateTimer;
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = MeteredDataSource.invoke(proxy, target, method, args);
+            if (result instanceof Statement) {
+                Class<?> type = result instanceof CallableStatement ? CallableStatement.class
+                        : result instanceof PreparedStatement ? PreparedStatement.class : Statement.class;
+                // prepareStatement / prepareCall 의 첫 인자가 SQL
+                String sql = firstStringArgument(args);
+                return Proxy.newProxyInstance(MeteredDataSource.class.getClassLoader(),
+                        new Class<?>[]{type}, new StatementHandler((Statement) result, (Connection) proxy, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final Connection connection;
+        private final String preparedSql;
+
+        StatementHandler(Statement target, Connection connection, String preparedSql) {
+            this.target = target;
+            this.connection = connection;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("getConnection")) {
+                return connection;
+            }
+            String type = typeOf(name);
+            if (type == null) {
+                return MeteredDataSource.invoke(proxy, target, method, args);
+            }
+            long start = System.nanoTime();
+            try {
+                return MeteredDataSource.invoke(proxy, target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                timers().get(type).record(elapsed, TimeUnit.NANOSECONDS);
+                if (slowQueryLog.isSlow(elapsed)) {
+                    // Statement.execute*(sql) 는 인자의 SQL, PreparedStatement 는 준비한 SQL
+                    String sql = firstStringArgument(args);
+                    slowQueryLog.record(pool, type, sql != null ? sql : preparedSql, elapsed);
+                }
+            }
+        }
+    }
+
+    private static String firstStringArgument(Object[] args) {
+        return args != null && args.length > 0 && args[0] instanceof String ? (String) args[0] : null;
+    }
+}
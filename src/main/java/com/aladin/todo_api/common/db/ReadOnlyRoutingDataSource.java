@@ -0,0 +1,19 @@
+package com.aladin.todo_api.common.db;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/*
+ * 트랜잭션 readOnly 여부에 따라 읽기 전용 / 쓰기 커넥션 풀 선택
+ * - LazyConnectionDataSourceProxy 로 감싸 트랜잭션 속성이 정해진 뒤 커넥션을 가져와야 함
+ * */
+public class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String READER = "reader";
+    public static final String WRITER = "writer";
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? READER : WRITER;
+    }
+}
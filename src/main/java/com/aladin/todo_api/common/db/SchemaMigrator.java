@@ -0,0 +1,181 @@
+package com.aladin.todo_api.common.db;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import javax.annotation.PostConstruct;
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/*
+ * 버전별 SQL 스크립트 기반 스키마 마이그레이션
+ * - location 아래 V{버전}__{설명}.sql 을 버전 순서대로 적용 (스크립트마다 하나의 트랜잭션)
+ * - 적용 이력과 체크섬을 schema_version 테이블에 기록
+ * - 이미 적용된 스크립트가 변경되면 기동 실패
+ * - JPA(EntityManagerFactory) 초기화 전에 실행
+ * */
+@Component
+public class SchemaMigrator {
+
+    private static final Pattern SCRIPT_NAME = Pattern.compile("V(\\d+)__(.+)\\.sql");
+
+    private static final String CREATE_VERSION_TABLE =
+            "CREATE TABLE IF NOT EXISTS schema_version (" +
+            "version integer not null primary key, " +
+            "description varchar not null, " +
+            "checksum varchar not null, " +
+            "installed_at integer not null)";
+
+    private final Logger log = (Logger) LoggerFactory.getLogger(SchemaMigrator.class);
+    private final DataSource dataSource;
+    private final String location;
+
+    public SchemaMigrator(@Qualifier("writerDataSource") DataSource dataSource,
+                          @Value("${sqlite.migration.location:classpath:db/migration}") String location) {
+        this.dataSource = dataSource;
+        this.location = location;
+    }
+
+    /*
+     * 적용되지 않은 마이그레이션 실행
+     * */
+    @PostConstruct
+    public void migrate() throws IOException, SQLException {
+        List<Migration> migrations = loadMigrations();
+
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate(CREATE_VERSION_TABLE);
+            }
+            Map<Integer, String> applied = findApplied(connection);
+
+            int count = 0;
+            for (Migration migration : migrations) {
+                String checksum = applied.get(migration.version);
+                if (checksum == null) {
+                    apply(connection, migration);
+                    count++;
+                } else if (!checksum.equals(migration.checksum)) {
+                    throw new IllegalStateException("이미 적용된 마이그레이션이 변경되었습니다: " + migration.name);
+                }
+            }
+
+            if (count > 0) {
+                log.info("스키마 마이그레이션 {}건을 적용했습니다.", count);
+            }
+        }
+    }
+
+    private List<Migration> loadMigrations() throws IOException {
+        Resource[] resources = new PathMatchingResourcePatternResolver().getResources(location + "/V*__*.sql");
+        List<Migration> migrations = new ArrayList<>();
+        Map<Integer, String> names = new HashMap<>();
+
+        for (Resource resource : resources) {
+            Matcher matcher = SCRIPT_NAME.matcher(resource.getFilename());
+            if (!matcher.matches()) {
+                continue;
+            }
+            int version = Integer.parseInt(matcher.group(1));
+            String previous = names.put(version, resource.getFilename());
+            if (previous != null) {
+                throw new IllegalStateException("마이그레이션 버전이 중복되었습니다: " + previous + ", " + resource.getFilename());
+            }
+            String script = StreamUtils.copyToString(resource.getInputStream(), StandardCharsets.UTF_8)
+                    .replace("\r\n", "\n");
+            migrations.add(new Migration(version, matcher.group(2).replace('_', ' '), resource.getFilename(),
+                    script, checksum(script)));
+        }
+
+        migrations.sort((a, b) -> Integer.compare(a.version, b.version));
+        return migrations;
+    }
+
+    private Map<Integer, String> findApplied(Connection connection) throws SQLException {
+        Map<Integer, String> applied = new HashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT version, checksum FROM schema_version")) {
+            while (rs.next()) {
+                applied.put(rs.getInt(1), rs.getString(2));
+            }
+        }
+        return applied;
+    }
+
+    /*
+     * 스크립트 실행과 이력 기록을 하나의 트랜잭션으로 처리
+     * */
+    private void apply(Connection connection, Migration migration) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement();
+             PreparedStatement history = connection.prepareStatement(
+                     "INSERT INTO schema_version (version, description, checksum, installed_at) VALUES (?, ?, ?, ?)")) {
+            // sqlite-jdbc 는 여러 문장으로 된 스크립트를 한 번에 실행
+            statement.executeUpdate(migration.script);
+
+            history.setInt(1, migration.version);
+            history.setString(2, migration.description);
+            history.setString(3, migration.checksum);
+            history.setLong(4, System.currentTimeMillis());
+            history.executeUpdate();
+
+            connection.commit();
+            log.info("스키마 마이그레이션 적용: {}", migration.name);
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw new IllegalStateException("스키마 마이그레이션에 실패했습니다: " + migration.name, e);
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    private static String checksum(String script) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(script.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class Migration {
+        private final int version;
+        private final String description;
+        private final String name;
+        private final String script;
+        private final String checksum;
+
+        Migration(int version, String description, String name, String script, String checksum) {
+            this.version = version;
+            this.description = description;
+            this.name = name;
+            this.script = script;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.aladin.todo_api.common.db;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/*
+ * 기준 시간을 넘은 SQL 실행 기록
+ * */
+@Getter
+@AllArgsConstructor
+public class SlowQuery {
+    private final LocalDateTime executedAt;
+    private final String pool;          // writer / reader
+    private final String type;          // query / update / batch
+    private final double elapsedMillis;
+    private final String sql;           // 리터럴을 ? 로 바꾼 SQL (바인딩 값 미포함)
+    private final List<String> plan;    // EXPLAIN QUERY PLAN 결과 (수집 전이면 null)
+}
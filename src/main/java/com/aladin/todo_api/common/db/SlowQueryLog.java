@@ -0,0 +1,200 @@
+package com.aladin.todo_api.common.db;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/*
+ * 느린 SQL 기록 (MeteredDataSource 에서 기준 시간을 넘은 문장만 전달)
+ * - 최근 capacity 건을 원형 버퍼로 보관 (/actuator/slowqueries)
+ * - 문자열/숫자 리터럴은 ? 로 바꿔 SQL 형태만 보관 (바인딩 값은 기록하지 않음)
+ * - SQL 형태별로 한 번만 EXPLAIN QUERY PLAN 을 읽기 전용 풀에서 비동기로 실행하여 실행 계획 보관
+ * */
+@Component
+public class SlowQueryLog {
+
+    private static final int MAX_PLANS = 1000;
+    private static final List<String> PENDING = Collections.emptyList();
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Logger log = (Logger) LoggerFactory.getLogger(SlowQueryLog.class);
+    private final DataSource dataSource;
+    private final long thresholdNanos;
+    private final Entry[] entries;
+    private final Map<String, List<String>> plans = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor explainer;
+    private int next;
+
+    public SlowQueryLog(@Qualifier("readerDataSource") DataSource dataSource,
+                        @Value("${sqlite.slow-query.threshold-ms:200}") long thresholdMillis,
+                        @Value("${sqlite.slow-query.capacity:100}") int capacity) {
+        this.dataSource = dataSource;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+        this.entries = new Entry[capacity];
+        // 실행 계획 수집은 요청 스레드와 분리, 밀리면 버림
+        this.explainer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(64), runnable -> {
+            Thread thread = new Thread(runnable, "slow-query-explain");
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        explainer.shutdownNow();
+        explainer.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= thresholdNanos;
+    }
+
+    /*
+     * 느린 문장 기록
+     * */
+    public void record(String pool, String type, String sql, long elapsedNanos) {
+        String shape = sql == null ? null : normalize(sql);
+        Entry entry = new Entry(System.currentTimeMillis(), pool, type, shape, elapsedNanos);
+        synchronized (entries) {
+            entries[next] = entry;
+            next = (next + 1) % entries.length;
+        }
+        log.warn("느린 SQL ({}ms, {}): {}", TimeUnit.NANOSECONDS.toMillis(elapsedNanos), pool, shape);
+
+        if (shape != null) {
+            explain(shape);
+        }
+    }
+
+    /*
+     * 최근 느린 문장 목록 (최신순)
+     * */
+    public List<SlowQuery> getSlowQueries() {
+        List<Entry> snapshot = new ArrayList<>(entries.length);
+        synchronized (entries) {
+            for (int i = 1; i <= entries.length; i++) {
+                Entry entry = entries[(next - i + entries.length) % entries.length];
+                if (entry == null) {
+                    break;
+                }
+                snapshot.add(entry);
+            }
+        }
+
+        List<SlowQuery> result = new ArrayList<>(snapshot.size());
+        for (Entry entry : snapshot) {
+            List<String> plan = entry.sql == null ? null : plans.get(entry.sql);
+            result.add(new SlowQuery(
+                    LocalDateTime.ofInstant(Instant.ofEpochMilli(entry.executedAt), ZoneId.systemDefault()),
+                    entry.pool, entry.type, entry.elapsedNanos / 1_000_000.0, entry.sql,
+                    plan == PENDING ? null : plan));
+        }
+        return result;
+    }
+
+    /*
+     * 기록 초기화 (실행 계획 포함)
+     * */
+    public void clear() {
+        synchronized (entries) {
+            for (int i = 0; i < entries.length; i++) {
+                entries[i] = null;
+            }
+            next = 0;
+        }
+        plans.clear();
+    }
+
+    /*
+     * 리터럴을 ? 로 바꾸고 공백 정리
+     * */
+    static String normalize(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+
+    private void explain(String shape) {
+        if (plans.size() >= MAX_PLANS || plans.putIfAbsent(shape, PENDING) != null) {
+            return;
+        }
+        try {
+            explainer.execute(() -> plans.put(shape, queryPlan(shape)));
+        } catch (RejectedExecutionException e) {
+            plans.remove(shape);
+        }
+    }
+
+    /*
+     * EXPLAIN QUERY PLAN 실행 (파라미터는 NULL 로 바인딩, 부모 단계 기준으로 들여쓰기)
+     * */
+    private List<String> queryPlan(String shape) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN QUERY PLAN " + shape)) {
+            int parameters = statement.getParameterMetaData().getParameterCount();
+            for (int i = 1; i <= parameters; i++) {
+                statement.setObject(i, null);
+            }
+
+            List<String> plan = new ArrayList<>();
+            Map<Integer, Integer> depths = new HashMap<>();
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    int depth = depths.getOrDefault(rs.getInt("parent"), -1) + 1;
+                    depths.put(rs.getInt("id"), depth);
+                    StringBuilder line = new StringBuilder();
+                    for (int i = 0; i < depth; i++) {
+                        line.append("  ");
+                    }
+                    plan.add(line.append(rs.getString("detail")).toString());
+                }
+            }
+            return plan;
+        } catch (SQLException e) {
+            log.warn("실행 계획 수집 실패: {}", e.getMessage());
+            return Collections.singletonList("EXPLAIN 실패: " + e.getMessage());
+        }
+    }
+
+    private static final class Entry {
+        private final long executedAt;
+        private final String pool;
+        private final String type;
+        private final String sql;
+        private final long elapsedNanos;
+
+        Entry(long executedAt, String pool, String type, String sql, long elapsedNanos) {
+            this.executedAt = executedAt;
+            this.pool = pool;
+            this.type = type;
+            this.sql = sql;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+}
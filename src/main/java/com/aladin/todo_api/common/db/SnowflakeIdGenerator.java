@@ -0,0 +1,84 @@
+package com.aladin.todo_api.common.db;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.io.Serializable;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * 시간순 64비트 ID 발급기 (Hibernate IdentifierGenerator)
+ * - [부호 1][밀리초 타임스탬프 41][노드 10][시퀀스 12] (2025-01-01 부터 약 69년)
+ * - DB 조회 없이 메모리에서 CAS 로 발급하여 insert 를 JDBC batch 로 묶을 수 있음
+ * - 나중에 발급한 ID 가 항상 더 큼 (ORDER BY id DESC = 최신순)
+ *   같은 밀리초에 시퀀스를 모두 쓰거나 시계가 뒤로 가면 다음 밀리초 값을 미리 사용
+ * - 노드 ID(hibernate.id.snowflake.node_id)를 DB 파일/서버마다 다르게 지정하면 분산 환경에서도 중복 없음
+ *
+ * 사용: @GenericGenerator(name = "...", strategy = "com.aladin.todo_api.common.db.SnowflakeIdGenerator")
+ * */
+public class SnowflakeIdGenerator implements IdentifierGenerator {
+
+    public static final String NODE_ID_SETTING = "hibernate.id.snowflake.node_id";
+
+    public static final long EPOCH = 1735689600000L; // 2025-01-01T00:00:00Z
+    public static final int NODE_BITS = 10;
+    public static final int SEQUENCE_BITS = 12;
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // 마지막 발급 상태 (타임스탬프 << SEQUENCE_BITS | 시퀀스), 같은 프로세스의 모든 발급기가 공유
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private long nodeId;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) {
+        Object setting = serviceRegistry.getService(ConfigurationService.class).getSettings().get(NODE_ID_SETTING);
+        setNodeId(setting == null ? 0 : Long.parseLong(setting.toString().trim()));
+    }
+
+    public void setNodeId(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return nextId();
+    }
+
+    /*
+     * 다음 ID 발급 (잠금 없음)
+     * */
+    public long nextId() {
+        while (true) {
+            long last = LAST.get();
+            long now = System.currentTimeMillis() - EPOCH;
+            // 새 밀리초면 시퀀스 0, 아니면 이전 값 + 1 (시퀀스가 넘치면 타임스탬프로 올림)
+            long next = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+            if (LAST.compareAndSet(last, next)) {
+                return (next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS)
+                        | nodeId << SEQUENCE_BITS
+                        | (next & SEQUENCE_MASK);
+            }
+        }
+    }
+
+    /*
+     * ID 의 발급 시각 (epoch millis)
+     * */
+    public static long timestampOf(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH;
+    }
+
+    public static long nodeIdOf(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+}
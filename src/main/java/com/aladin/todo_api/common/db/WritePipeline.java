@@ -0,0 +1,252 @@
+package com.aladin.todo_api.common.db;
+
+import com.aladin.todo_api.common.exception.ServiceUnavailableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/*
+ * SQLite3 단일 쓰기 파이프라인
+ * - 모든 쓰기 작업을 큐에 넣고 전용 쓰기 스레드 하나가 순서대로 처리
+ * - 동시에 들어온 작업은 하나의 트랜잭션으로 묶어 커밋 (group commit)
+ *   작업마다 savepoint 를 두어 실패한 작업만 되돌리고 나머지는 그대로 커밋
+ * - 큐가 가득 차면 503 으로 거절 (backpressure)
+ * - 커밋을 execute-timeout-ms 이상 기다리면 503 으로 응답하고, 아직 시작하지 않은 작업은 취소
+ * */
+@Component
+public class WritePipeline {
+
+    private final Logger log = (Logger) LoggerFactory.getLogger(WritePipeline.class);
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${sqlite.write-pipeline.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${sqlite.write-pipeline.max-batch-size:64}")
+    private int maxBatchSize;
+
+    @Value("${sqlite.write-pipeline.offer-timeout-ms:50}")
+    private long offerTimeoutMillis;
+
+    @Value("${sqlite.write-pipeline.execute-timeout-ms:10000}")
+    private long executeTimeoutMillis;
+
+    private BlockingQueue<WriteTask<?>> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    public WritePipeline(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /*
+     * 초기화 (쓰기 스레드 시작)
+     * */
+    @PostConstruct
+    public void start() {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.running = true;
+        this.writer = new Thread(this::runWriter, "sqlite-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /*
+     * 종료 (남은 작업 처리 후 쓰기 스레드 종료)
+     * */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+
+        WriteTask<?> task;
+        while ((task = queue.poll()) != null) {
+            task.future.completeExceptionally(new ServiceUnavailableException("서버가 종료 중입니다.", 1));
+        }
+    }
+
+    /*
+     * 쓰기 작업 실행 후 결과 반환 (커밋 완료까지 최대 execute-timeout-ms 대기)
+     * - 시간 안에 끝나지 않으면 ServiceUnavailableException, 쓰기 스레드가 아직 꺼내지 않은 작업은 실행되지 않음
+     * */
+    public <T> T execute(Supplier<T> work) {
+        CompletableFuture<T> future = submit(work);
+        try {
+            return future.get(executeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            throw new ServiceUnavailableException("쓰기 요청 처리가 지연되고 있습니다. 잠시 후 다시 시도해 주세요.", 1);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쓰기 작업 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    /*
+     * 쓰기 작업 등록 (큐가 가득 차면 ServiceUnavailableException)
+     * */
+    public <T> CompletableFuture<T> submit(Supplier<T> work) {
+        if (!running) {
+            throw new ServiceUnavailableException("서버가 종료 중입니다.", 1);
+        }
+        WriteTask<T> task = new WriteTask<>(work);
+        try {
+            if (!queue.offer(task, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", 1);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("쓰기 작업 등록 중 인터럽트가 발생했습니다.", e);
+        }
+        return task.future;
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void runWriter() {
+        List<WriteTask<?>> batch = new ArrayList<>(maxBatchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                WriteTask<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, maxBatchSize - 1);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Throwable e) {
+                log.error("쓰기 작업 처리 중 오류가 발생했습니다.", e);
+                for (WriteTask<?> task : batch) {
+                    task.future.completeExceptionally(e);
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /*
+     * 배치 단위 커밋
+     * - 작업마다 savepoint 를 만들고 작업 직후 flush 하여, 실패한 작업(404, 검증 오류, 제약 조건 위반 등)만 되돌림
+     * - 커밋 자체가 실패하면 성공했던 작업만 작업별 트랜잭션으로 다시 실행
+     * */
+    private void commit(List<WriteTask<?>> batch) {
+        if (batch.size() == 1) {
+            commitEach(batch);
+            return;
+        }
+
+        Object[] results = new Object[batch.size()];
+        RuntimeException[] errors = new RuntimeException[batch.size()];
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (int i = 0; i < batch.size(); i++) {
+                    if (batch.get(i).future.isDone()) {
+                        // 대기 시간 초과로 취소된 작업
+                        continue;
+                    }
+                    Object savepoint = status.createSavepoint();
+                    try {
+                        results[i] = batch.get(i).work.get();
+                        entityManager.flush();
+                        status.releaseSavepoint(savepoint);
+                    } catch (RuntimeException e) {
+                        status.rollbackToSavepoint(savepoint);
+                        discardPersistenceContext();
+                        errors[i] = e;
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            log.debug("배치 커밋 실패, 작업별로 다시 실행합니다. (batch size: {})", batch.size(), e);
+            List<WriteTask<?>> retry = new ArrayList<>(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                if (errors[i] != null) {
+                    batch.get(i).future.completeExceptionally(errors[i]);
+                } else {
+                    retry.add(batch.get(i));
+                }
+            }
+            commitEach(retry);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            if (errors[i] != null) {
+                batch.get(i).future.completeExceptionally(errors[i]);
+            } else {
+                batch.get(i).complete(results[i]);
+            }
+        }
+    }
+
+    /*
+     * savepoint 로 되돌린 작업이 영속성 컨텍스트와 2차 캐시에 남긴 변경 제거
+     * - 앞선 작업은 이미 flush 되었으므로 영속성 컨텍스트를 비워도 커밋 내용은 그대로
+     * */
+    private void discardPersistenceContext() {
+        entityManager.clear();
+        entityManager.getEntityManagerFactory().getCache().evictAll();
+    }
+
+    private void commitEach(List<WriteTask<?>> batch) {
+        for (WriteTask<?> task : batch) {
+            if (task.future.isDone()) {
+                continue;
+            }
+            try {
+                task.complete(transactionTemplate.execute(status -> task.work.get()));
+            } catch (Throwable e) {
+                task.future.completeExceptionally(e);
+            }
+        }
+    }
+
+    private static final class WriteTask<T> {
+        private final Supplier<T> work;
+        private final CompletableFuture<T> future = new CompletableFuture<>();
+
+        private WriteTask(Supplier<T> work) {
+            this.work = work;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void complete(Object result) {
+            future.complete((T) result);
+        }
+    }
+}
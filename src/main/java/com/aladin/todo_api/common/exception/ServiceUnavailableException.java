@@ -0,0 +1,17 @@
+package com.aladin.todo_api.common.exception;
+
+import lombok.Getter;
+
+/*
+ * 일시적인 과부하로 요청을 처리할 수 없는 경우 (503, Retry-After)
+ * */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
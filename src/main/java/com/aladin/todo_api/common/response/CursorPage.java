@@ -0,0 +1,59 @@
+package com.aladin.todo_api.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+@Getter
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    /*
+     * limit + 1 건을 조회한 결과로 다음 페이지 여부와 커서 생성
+     * */
+    public static <T> CursorPage<T> of(List<T> rows, int limit, ToLongFunction<T> idExtractor) {
+        boolean hasNext = rows.size() > limit;
+        List<T> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? encodeCursor(idExtractor.applyAsLong(content.get(limit - 1))) : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+
+    /*
+     * 다음 페이지 여부를 이미 알고 있는 경우
+     * */
+    public static <T> CursorPage<T> of(List<T> content, boolean hasNext, ToLongFunction<T> idExtractor) {
+        String nextCursor = hasNext && !content.isEmpty()
+                ? encodeCursor(idExtractor.applyAsLong(content.get(content.size() - 1))) : null;
+        return new CursorPage<>(content, nextCursor, hasNext && nextCursor != null);
+    }
+
+    /*
+     * 마지막 id를 불투명한 커서 문자열로 변환
+     * */
+    public static String encodeCursor(long id) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Long.toString(id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /*
+     * 커서 문자열을 마지막 id로 변환 (커서가 없으면 null)
+     * */
+    public static Long decodeCursor(String cursor) {
+        if (cursor == null || cursor.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            byte[] decoded = Base64.getUrlDecoder().decode(cursor);
+            return Long.parseLong(new String(decoded, StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package com.aladin.todo_api.common.security;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+
+/*
+ * TokenProvider 가 발급한 HS512 JWT 전용 검증기 (요청마다 호출되는 빠른 경로)
+ * - 스레드별 Mac, 버퍼를 재사용하여 검증 중 객체 생성 없음 (성공 시 결과 객체만 생성)
+ * - 서명은 상수 시간 비교
+ * - payload 는 sub, iat, exp 만 있는 평탄한 JSON 만 처리
+ * - 실패 시 예외 대신 REJECTED 반환, 형식이 다른 토큰은 null 반환 (jjwt 로 처리)
+ * */
+public class HmacJwtVerifier {
+
+    // 검증 실패 (서명 불일치, 만료, 손상)
+    public static final VerifiedToken REJECTED = new VerifiedToken(null, 0L);
+
+    // base64url({"alg":"HS512"})
+    private static final String HEADER = "eyJhbGciOiJIUzUxMiJ9";
+    private static final int SIGNATURE_BYTES = 64;
+    private static final int SIGNATURE_CHARS = 86;
+    private static final int MAX_TOKEN_CHARS = 4096;
+
+    private static final byte[] BASE64URL = new byte[128];
+
+    static {
+        for (int i = 0; i < BASE64URL.length; i++) {
+            BASE64URL[i] = -1;
+        }
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            BASE64URL[alphabet.charAt(i)] = (byte) i;
+        }
+    }
+
+    private final ThreadLocal<State> state;
+
+    public HmacJwtVerifier(SecretKey secretKey) {
+        this.state = ThreadLocal.withInitial(() -> new State(secretKey));
+    }
+
+    /*
+     * 검증 성공 시 사용자 ID와 만료 시각, 실패 시 REJECTED, 처리할 수 없는 형식이면 null
+     * */
+    public VerifiedToken verify(String token, long now) {
+        int length = token == null ? 0 : token.length();
+        if (length <= HEADER.length() || length > MAX_TOKEN_CHARS
+                || !token.startsWith(HEADER) || token.charAt(HEADER.length()) != '.') {
+            return null;
+        }
+        int payloadStart = HEADER.length() + 1;
+        int signatureStart = token.indexOf('.', payloadStart) + 1;
+        if (signatureStart == 0 || length - signatureStart != SIGNATURE_CHARS) {
+            return REJECTED;
+        }
+
+        State s = state.get();
+
+        // 서명 대상 (header.payload) ASCII 바이트
+        int signingLength = signatureStart - 1;
+        for (int i = 0; i < signingLength; i++) {
+            char c = token.charAt(i);
+            if (c >= 0x80) {
+                return REJECTED;
+            }
+            s.signingInput[i] = (byte) c;
+        }
+        s.mac.update(s.signingInput, 0, signingLength);
+        try {
+            s.mac.doFinal(s.expected, 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException(e);
+        }
+
+        if (decode(token, signatureStart, length, s.actual) != SIGNATURE_BYTES) {
+            return REJECTED;
+        }
+        int diff = 0;
+        for (int i = 0; i < SIGNATURE_BYTES; i++) {
+            diff |= s.expected[i] ^ s.actual[i];
+        }
+        if (diff != 0) {
+            return REJECTED;
+        }
+
+        int payloadLength = decode(token, payloadStart, signingLength, s.payload);
+        if (payloadLength < 0) {
+            return REJECTED;
+        }
+        return parseClaims(s.payload, payloadLength, now);
+    }
+
+    /*
+     * {"sub":"...","iat":123,"exp":456} 형식의 payload 에서 sub, exp 추출
+     * - 이스케이프 문자, 중첩 값, 알 수 없는 claim 이 있으면 null (jjwt 로 처리)
+     * */
+    private static VerifiedToken parseClaims(byte[] json, int length, long now) {
+        int pos = skipWhitespace(json, 0, length);
+        if (pos >= length || json[pos] != '{') {
+            return REJECTED;
+        }
+        int subStart = -1;
+        int subEnd = -1;
+        long exp = -1;
+
+        pos = skipWhitespace(json, pos + 1, length);
+        while (pos < length && json[pos] != '}') {
+            // key
+            if (json[pos] != '"') {
+                return null;
+            }
+            int keyStart = pos + 1;
+            int keyEnd = indexOfQuote(json, keyStart, length);
+            if (keyEnd < 0) {
+                return null;
+            }
+            pos = skipWhitespace(json, keyEnd + 1, length);
+            if (pos >= length || json[pos] != ':') {
+                return null;
+            }
+            pos = skipWhitespace(json, pos + 1, length);
+            if (pos >= length) {
+                return null;
+            }
+
+            // value
+            if (isKey(json, keyStart, keyEnd, "sub") && json[pos] == '"') {
+                subStart = pos + 1;
+                subEnd = indexOfQuote(json, subStart, length);
+                if (subEnd < 0) {
+                    return null;
+                }
+                pos = subEnd + 1;
+            } else if (isKey(json, keyStart, keyEnd, "exp") || isKey(json, keyStart, keyEnd, "iat")) {
+                long value = 0;
+                int digits = 0;
+                while (pos < length && json[pos] >= '0' && json[pos] <= '9' && digits < 18) {
+                    value = value * 10 + (json[pos] - '0');
+                    pos++;
+                    digits++;
+                }
+                if (digits == 0) {
+                    return null;
+                }
+                if (isKey(json, keyStart, keyEnd, "exp")) {
+                    exp = value;
+                }
+            } else {
+                return null;
+            }
+
+            pos = skipWhitespace(json, pos, length);
+            if (pos < length && json[pos] == ',') {
+                pos = skipWhitespace(json, pos + 1, length);
+            } else if (pos >= length || json[pos] != '}') {
+                return null;
+            }
+        }
+
+        if (subStart < 0 || exp < 0 || subEnd == subStart) {
+            return null;
+        }
+        long expiresAt = exp * 1000;
+        if (now > expiresAt) {
+            return REJECTED;
+        }
+        return new VerifiedToken(new String(json, subStart, subEnd - subStart, StandardCharsets.UTF_8), expiresAt);
+    }
+
+    /*
+     * base64url(패딩 없음) 디코딩, 잘못된 문자, 버퍼 초과 시 -1
+     * */
+    private static int decode(String source, int from, int to, byte[] target) {
+        int length = 0;
+        int buffer = 0;
+        int bits = 0;
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < 128 ? BASE64URL[c] : -1;
+            if (value < 0) {
+                return -1;
+            }
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                if (length >= target.length) {
+                    return -1;
+                }
+                target[length++] = (byte) (buffer >> bits);
+            }
+        }
+        // 남은 비트는 0 이어야 함 (같은 값의 다른 표기 거절)
+        if ((buffer & ((1 << bits) - 1)) != 0) {
+            return -1;
+        }
+        return length;
+    }
+
+    private static int skipWhitespace(byte[] json, int pos, int length) {
+        while (pos < length && (json[pos] == ' ' || json[pos] == '\n' || json[pos] == '\r' || json[pos] == '\t')) {
+            pos++;
+        }
+        return pos;
+    }
+
+    // 닫는 따옴표 위치 (이스케이프가 있으면 -1)
+    private static int indexOfQuote(byte[] json, int pos, int length) {
+        for (int i = pos; i < length; i++) {
+            if (json[i] == '"') {
+                return i;
+            }
+            if (json[i] == '\\') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isKey(byte[] json, int start, int end, String key) {
+        if (end - start != key.length()) {
+            return false;
+        }
+        for (int i = 0; i < key.length(); i++) {
+            if (json[start + i] != key.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /*
+     * 스레드별 재사용 객체
+     * */
+    private static final class State {
+        private final Mac mac;
+        private final byte[] signingInput = new byte[MAX_TOKEN_CHARS];
+        private final byte[] payload = new byte[MAX_TOKEN_CHARS];
+        private final byte[] expected = new byte[SIGNATURE_BYTES];
+        private final byte[] actual = new byte[SIGNATURE_BYTES + 2];
+
+        private State(SecretKey secretKey) {
+            try {
+                this.mac = Mac.getInstance("HmacSHA512");
+                this.mac.init(secretKey);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.aladin.todo_api.common.security;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -14,16 +16,37 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter{
 
     private final TokenProvider tokenProvider;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final Timer validTokenTimer;
+    private final Timer invalidTokenTimer;
+
+    public JwtAuthenticationFilter(TokenProvider tokenProvider, VerifiedTokenCache verifiedTokenCache,
+                                   MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.verifiedTokenCache = verifiedTokenCache;
+        // 서명 검증 시간 (캐시 적중 시에는 기록하지 않음)
+        this.validTokenTimer = Timer.builder("security.jwt.verification")
+                .tag("result", "valid")
+                .register(meterRegistry);
+        this.invalidTokenTimer = Timer.builder("security.jwt.verification")
+                .tag("result", "invalid")
+                .register(meterRegistry);
+    }
 
     @Value("${jwt.secret}")
     String secretKey;
 
+    // 관리용 actuator 엔드포인트(느린 SQL 등)를 사용할 수 있는 사용자 ID
+    @Value("${security.admin-user-ids:}")
+    Set<String> adminUserIds;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
@@ -31,8 +54,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
 
         String requestUri = request.getRequestURI();
 
-        // 인증 검사를 제외할 경로 (로그인, 회원가입)
-        if (requestUri.startsWith("/users/login") || requestUri.startsWith("/users/signup")) {
+        // 인증 검사를 제외할 경로 (로그인, 회원가입, 상태 확인, 메트릭 수집)
+        if (requestUri.startsWith("/users/login") || requestUri.startsWith("/users/signup")
+                || requestUri.equals("/actuator/health") || requestUri.equals("/actuator/prometheus")) {
             filterChain.doFilter(request, response);
             return;
         }
@@ -46,15 +70,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
 
         String token = header.substring(7);
 
-        try {
-            String userId = tokenProvider.validateToken(token);
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(userId, null, Collections.emptyList());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-        } catch (Exception e) {
-            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-            return;
+        // 이미 검증한 토큰은 서명 검증 생략
+        VerifiedToken verifiedToken = verifiedTokenCache.get(token);
+        if (verifiedToken == null) {
+            long start = System.nanoTime();
+            verifiedToken = tokenProvider.findVerifiedToken(token);
+            (verifiedToken != null ? validTokenTimer : invalidTokenTimer)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (verifiedToken == null) {
+                response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+                return;
+            }
+            verifiedTokenCache.put(token, verifiedToken);
         }
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(verifiedToken.getUserId(), null,
+                        adminUserIds.contains(verifiedToken.getUserId())
+                                ? Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN"))
+                                : Collections.emptyList());
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
         filterChain.doFilter(request, response);
     }
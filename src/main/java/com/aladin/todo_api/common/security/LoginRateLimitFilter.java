@@ -0,0 +1,164 @@
+package com.aladin.todo_api.common.security;
+
+import com.aladin.todo_api.common.response.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ReadListener;
+import javax.servlet.ServletException;
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+import javax.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/*
+ * 로그인/회원가입 요청 제한 필터
+ * - UserService 가 비밀번호 해시, DB 조회를 하기 전에 접속 주소별/사용자 ID별 요청 수 제한
+ * - 초과 시 429 와 Retry-After, X-RateLimit-* 헤더 응답
+ * - 사용자 ID 제한을 건너뛸 수 없도록 Content-Length 와 관계없이 본문을 최대 크기까지 읽고, 넘으면 413 응답
+ * */
+@Component
+@RequiredArgsConstructor
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+
+    // 로그인/회원가입 요청 본문 최대 크기
+    private static final int MAX_BODY_BYTES = 16 * 1024;
+
+    private final LoginRateLimiter loginRateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String requestUri = request.getRequestURI();
+        return !"POST".equals(request.getMethod())
+                || !(requestUri.startsWith("/users/login") || requestUri.startsWith("/users/signup"));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        // Content-Length 를 신뢰하지 않고 (chunked 요청 포함) 최대 크기 + 1 바이트까지만 읽어 초과 여부 판단
+        byte[] body = readBody(request.getInputStream());
+        if (body == null) {
+            writeError(response, HttpStatus.PAYLOAD_TOO_LARGE, "요청 본문이 너무 큽니다.");
+            return;
+        }
+
+        LoginRateLimiter.Result result = loginRateLimiter.acquire(request.getRemoteAddr(), readUserId(body));
+        response.setHeader("X-RateLimit-Limit", String.valueOf(result.getLimit()));
+        response.setHeader("X-RateLimit-Remaining", String.valueOf(result.getRemaining()));
+
+        if (!result.isAllowed()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(result.getRetryAfterSeconds()));
+            writeError(response, HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.");
+            return;
+        }
+
+        filterChain.doFilter(new CachedBodyRequest(request, body), response);
+    }
+
+    /*
+     * 요청 본문 읽기 (최대 크기를 넘으면 null)
+     * */
+    private byte[] readBody(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = in.read(buffer, 0, Math.min(buffer.length, MAX_BODY_BYTES + 1 - out.size()))) > 0) {
+            out.write(buffer, 0, read);
+            if (out.size() > MAX_BODY_BYTES) {
+                return null;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), ErrorResponse.of(status.value(), message));
+    }
+
+    private String readUserId(byte[] body) {
+        try {
+            JsonNode userId = objectMapper.readTree(body).get("userId");
+            return userId == null || !userId.isTextual() ? null : userId.asText();
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /*
+     * 이미 읽은 요청 본문을 다시 읽을 수 있도록 감싼 요청
+     * */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // 본문이 이미 메모리에 있으므로 즉시 읽기 가능, 모두 읽은 것으로 통지
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onDataAvailable();
+                        readListener.onAllDataRead();
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding() == null ? StandardCharsets.UTF_8.name() : getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(), Charset.forName(encoding)));
+        }
+    }
+}
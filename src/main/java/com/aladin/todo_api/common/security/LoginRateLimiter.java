@@ -0,0 +1,76 @@
+package com.aladin.todo_api.common.security;
+
+import com.aladin.todo_api.common.cache.LruCache;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 로그인/회원가입 요청 제한 (접속 주소별, 사용자 ID별 토큰 버킷)
+ * - 버킷은 최대 개수가 정해진 LRU 캐시에 저장하고, 가득 찬 버킷은 만료시켜 제거
+ * */
+@Component
+public class LoginRateLimiter {
+
+    private final LruCache<String, TokenBucket> buckets;
+    private final long addressCapacity;
+    private final double addressRefillPerSecond;
+    private final long userCapacity;
+    private final double userRefillPerSecond;
+
+    public LoginRateLimiter(@Value("${security.rate-limit.max-buckets:100000}") int maxBuckets,
+                            @Value("${security.rate-limit.address.capacity:30}") long addressCapacity,
+                            @Value("${security.rate-limit.address.refill-per-minute:30}") double addressRefillPerMinute,
+                            @Value("${security.rate-limit.user.capacity:10}") long userCapacity,
+                            @Value("${security.rate-limit.user.refill-per-minute:10}") double userRefillPerMinute) {
+        this.buckets = new LruCache<>(maxBuckets);
+        this.addressCapacity = addressCapacity;
+        this.addressRefillPerSecond = addressRefillPerMinute / 60d;
+        this.userCapacity = userCapacity;
+        this.userRefillPerSecond = userRefillPerMinute / 60d;
+    }
+
+    /*
+     * 요청 허용 여부 (접속 주소 버킷 → 사용자 ID 버킷 순서로 확인)
+     * */
+    public Result acquire(String remoteAddress, String userId) {
+        long now = System.currentTimeMillis();
+        synchronized (buckets) {
+            Result result = acquire("address:" + remoteAddress, addressCapacity, addressRefillPerSecond, now);
+            if (!result.isAllowed() || userId == null || userId.isEmpty()) {
+                return result;
+            }
+            Result userResult = acquire("user:" + userId, userCapacity, userRefillPerSecond, now);
+            if (!userResult.isAllowed() || userResult.getRemaining() < result.getRemaining()) {
+                return userResult;
+            }
+            return result;
+        }
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private Result acquire(String key, long capacity, double refillPerSecond, long now) {
+        TokenBucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = new TokenBucket(capacity, refillPerSecond, now);
+        }
+        boolean allowed = bucket.tryConsume(now);
+        buckets.put(key, bucket, bucket.fullAt(now));
+
+        long retryAfterSeconds = allowed ? 0L : (long) Math.ceil(bucket.millisUntilAvailable(now) / 1000d);
+        return new Result(allowed, capacity, bucket.getRemaining(now), Math.max(retryAfterSeconds, allowed ? 0L : 1L));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Result {
+        private final boolean allowed;
+        private final long limit;
+        private final long remaining;
+        private final long retryAfterSeconds;
+    }
+}
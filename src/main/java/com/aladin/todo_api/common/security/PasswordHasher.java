@@ -0,0 +1,136 @@
+package com.aladin.todo_api.common.security;
+
+import com.aladin.todo_api.common.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 비밀번호 해시/검증 전용 스레드 풀
+ * - BCrypt 연산을 CPU 코어 수만큼의 고정 크기 풀에서 실행하여 요청 스레드가 모두 점유되지 않도록 함
+ * - 대기 큐가 가득 차면 즉시 503 으로 거절 (로그인 폭주 시에도 할일 API 지연 격리)
+ * - BCrypt 연산 시간(security.password.hash)과 대기 큐 길이 측정
+ * */
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long retryAfterSeconds;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${security.password-hasher.pool-size:0}") int poolSize,
+                          @Value("${security.password-hasher.queue-capacity:64}") int queueCapacity,
+                          @Value("${security.password-hasher.retry-after-seconds:1}") long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfterSeconds = retryAfterSeconds;
+        // 설정이 없으면 CPU 코어 수만큼
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new HasherThreadFactory(), new ThreadPoolExecutor.AbortPolicy());
+
+        this.encodeTimer = Timer.builder("security.password.hash")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("security.password.hash")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        Gauge.builder("security.password.hasher.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /*
+     * 비밀번호 암호화
+     * */
+    public String encode(String rawPassword) {
+        return run(() -> {
+            long start = System.nanoTime();
+            try {
+                return passwordEncoder.encode(rawPassword);
+            } finally {
+                encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    /*
+     * 비밀번호 일치 여부
+     * */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> {
+            long start = System.nanoTime();
+            try {
+                return passwordEncoder.matches(rawPassword, encodedPassword);
+            } finally {
+                matchesTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    public int getQueueSize() {
+        return executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return executor.getActiveCount();
+    }
+
+    private <T> T run(Callable<T> work) {
+        Future<T> future;
+        try {
+            future = executor.submit(work);
+        } catch (RejectedExecutionException e) {
+            throw new ServiceUnavailableException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", retryAfterSeconds);
+        }
+
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 대기 중 인터럽트가 발생했습니다.", e);
+        }
+    }
+
+    private static final class HasherThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.aladin.todo_api.common.security;
+
+/*
+ * 토큰 버킷 (capacity 만큼 모아두고 초당 refillPerSecond 개씩 채움)
+ * - 호출하는 쪽에서 동기화
+ * */
+public class TokenBucket {
+
+    private final long capacity;
+    private final double refillPerMillis;
+    private double tokens;
+    private long updatedAt;
+
+    public TokenBucket(long capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerMillis = refillPerSecond / 1000d;
+        this.tokens = capacity;
+        this.updatedAt = now;
+    }
+
+    /*
+     * 토큰 1개 사용 (없으면 false)
+     * */
+    public boolean tryConsume(long now) {
+        refill(now);
+        if (tokens < 1d) {
+            return false;
+        }
+        tokens -= 1d;
+        return true;
+    }
+
+    public long getCapacity() {
+        return capacity;
+    }
+
+    public long getRemaining(long now) {
+        refill(now);
+        return (long) tokens;
+    }
+
+    /*
+     * 다음 토큰을 사용할 수 있을 때까지 남은 시간
+     * */
+    public long millisUntilAvailable(long now) {
+        refill(now);
+        return tokens >= 1d ? 0L : (long) Math.ceil((1d - tokens) / refillPerMillis);
+    }
+
+    /*
+     * 버킷이 가득 차는 시각 (이후에는 새 버킷과 같으므로 제거해도 됨)
+     * */
+    public long fullAt(long now) {
+        refill(now);
+        return now + (long) Math.ceil((capacity - tokens) / refillPerMillis);
+    }
+
+    private void refill(long now) {
+        if (now > updatedAt) {
+            tokens = Math.min(capacity, tokens + (now - updatedAt) * refillPerMillis);
+            updatedAt = now;
+        }
+    }
+}
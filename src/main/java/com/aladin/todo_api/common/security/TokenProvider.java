@@ -27,6 +27,7 @@ public class TokenProvider {
     private long tokenValidityInSeconds;
 
     private SecretKey secretKey;
+    private HmacJwtVerifier fastVerifier;
     
     /*
     * 초기화
@@ -35,6 +36,7 @@ public class TokenProvider {
     public void init() {
         byte[] keyBytes = Base64.getDecoder().decode(secretKeyString);
         this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+        this.fastVerifier = new HmacJwtVerifier(secretKey);
     }
 
     /*
@@ -56,6 +58,44 @@ public class TokenProvider {
     * JWT 검증 및 파싱
     */
     public String validateToken(String token) {
+        return verifyToken(token).getUserId(); // 사용자 ID 반환
+    }
+
+    /*
+    * JWT 검증 후 사용자 ID와 만료 시각 반환
+    * - 검증 실패 시 원인별 예외 (실패 사유는 jjwt 로 다시 확인)
+    */
+    public VerifiedToken verifyToken(String token) {
+        VerifiedToken verified = fastVerifier.verify(token, System.currentTimeMillis());
+        if (verified != null && verified != HmacJwtVerifier.REJECTED) {
+            return verified;
+        }
+        return parseToken(token);
+    }
+
+    /*
+    * JWT 검증 후 사용자 ID와 만료 시각 반환, 유효하지 않으면 null (요청 인증용, 예외 생성 없음)
+    * - 직접 발급한 HS512 형식은 전용 검증기, 그 외 형식만 jjwt 로 검증
+    */
+    public VerifiedToken findVerifiedToken(String token) {
+        VerifiedToken verified = fastVerifier.verify(token, System.currentTimeMillis());
+        if (verified == HmacJwtVerifier.REJECTED) {
+            return null;
+        }
+        if (verified != null) {
+            return verified;
+        }
+        try {
+            return parseToken(token);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /*
+    * jjwt 로 JWT 검증 및 파싱
+    */
+    private VerifiedToken parseToken(String token) {
         try{
 
             Jws<Claims> claimsJws = Jwts.parser()
@@ -63,7 +103,8 @@ public class TokenProvider {
                     .build()
                     .parseClaimsJws(token);
 
-            return claimsJws.getBody().getSubject(); // 사용자 ID 반환
+            Claims claims = claimsJws.getBody();
+            return new VerifiedToken(claims.getSubject(), claims.getExpiration().getTime());
 
         } catch (ExpiredJwtException e) {
             log.warn("Expired JWT token: {}", e.getMessage());
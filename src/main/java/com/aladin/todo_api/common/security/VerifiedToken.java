@@ -0,0 +1,14 @@
+package com.aladin.todo_api.common.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 서명 검증을 통과한 JWT 정보
+ * */
+@Getter
+@AllArgsConstructor
+public class VerifiedToken {
+    private final String userId;    // sub
+    private final long expiresAt;   // exp (epoch millis)
+}
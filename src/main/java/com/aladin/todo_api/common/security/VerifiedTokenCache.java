@@ -0,0 +1,72 @@
+package com.aladin.todo_api.common.security;
+
+import com.aladin.todo_api.common.cache.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/*
+ * 검증이 끝난 JWT 캐시
+ * - 토큰 원문 대신 SHA-256 다이제스트를 키로 사용
+ * - 토큰의 exp 시각에 만료, 최대 항목 수를 넘으면 LRU 제거
+ * */
+@Component
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    @Value("${jwt.cache.max-size:10000}")
+    private int maxSize;
+
+    private LruCache<ByteBuffer, VerifiedToken> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = new LruCache<>(maxSize);
+    }
+
+    /*
+     * 캐시된 검증 결과 조회 (없거나 만료된 경우 null)
+     * */
+    public VerifiedToken get(String token) {
+        return cache.get(digest(token));
+    }
+
+    /*
+     * 검증 결과 저장 (토큰 만료 시각까지 유지)
+     * */
+    public void put(String token, VerifiedToken verifiedToken) {
+        cache.put(digest(token), verifiedToken, verifiedToken.getExpiresAt());
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private ByteBuffer digest(String token) {
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
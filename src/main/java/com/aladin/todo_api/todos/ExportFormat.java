@@ -0,0 +1,26 @@
+package com.aladin.todo_api.todos;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    NDJSON(MediaType.parseMediaType("application/x-ndjson;charset=UTF-8"), "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    public static ExportFormat fromString(String format) {
+        if (format == null || format.trim().isEmpty()) {
+            return NDJSON;
+        }
+        try {
+            return ExportFormat.valueOf(format.trim().toUpperCase());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다.");
+        }
+    }
+}
@@ -12,4 +12,15 @@ public enum Status {
             return PENDING;
         }
     }
+
+    /*
+     * 일괄 변경/삭제 조건처럼 기본값 대체가 위험한 경우 사용 (잘못된 값은 예외)
+     * */
+    public static Status parse(String status) {
+        try {
+            return Status.valueOf(status.trim().toUpperCase());
+        } catch (Exception e) {
+            throw new IllegalArgumentException("잘못된 상태값입니다.");
+        }
+    }
 }
@@ -1,7 +1,10 @@
 package com.aladin.todo_api.todos;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import javax.persistence.*;
@@ -16,7 +19,9 @@ import java.time.LocalDateTime;
 public class Todo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedValue(generator = "todo_id")
+    @GenericGenerator(name = "todo_id", strategy = "com.aladin.todo_api.common.db.SnowflakeIdGenerator") // 시간순 64비트 id (DB 조회 없음)
+    @JsonSerialize(using = ToStringSerializer.class) // 2^53 을 넘으므로 JavaScript 에서 반올림되지 않도록 문자열로 응답
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,334 @@
+package com.aladin.todo_api.todos;
+
+import com.aladin.todo_api.todos.dto.TodoChangeEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * 사용자별 할일 변경 알림 (Server-Sent Events, /todos/stream)
+ * - 연결은 비동기 요청(SseEmitter)으로 유지하여 대기 중인 연결이 요청 스레드를 점유하지 않음
+ * - 할일 등록/수정/삭제 커밋 이후 해당 사용자의 연결에만 이벤트 전송
+ * - 이벤트는 한 번만 직렬화하여 연결별 대기 큐에 넣고, 전송 스레드 풀(sender-threads)이 연결별로 순서대로 전송
+ *   (쓰기 요청은 전송을 기다리지 않음)
+ * - 전송은 소켓 쓰기라 읽지 않는 클라이언트에서는 전송 스레드가 막히므로, 한 번의 전송이 send-timeout-ms 를 넘으면
+ *   감시 스레드가 연결을 종료하고 막힌 스레드 대신 전송 스레드를 하나 더 두어 다른 연결의 전송을 계속함
+ *   (막힌 소켓 쓰기는 서블릿 API 로 중단할 수 없어 컨테이너의 쓰기 타임아웃에 끝나며, 그때 추가한 스레드도 정리)
+ * - 연결의 전송 대기 이벤트가 max-pending-events 를 넘으면 밀린 이벤트를 버리고 연결 종료 (todo.stream.events.dropped)
+ * - 사용자별 최대 연결 수를 넘으면 가장 오래된 연결 종료, 주기적으로 heartbeat 전송 (끊긴 연결 정리)
+ * */
+@Component
+public class TodoChangeStream {
+
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int maxConnectionsPerUser;
+    private final int maxPendingEvents;
+    private final int senderThreads;
+    private final long sendTimeoutNanos;
+    private final Map<String, Deque<Connection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ScheduledThreadPoolExecutor dispatcher;
+    private final ScheduledExecutorService watchdog;
+    // 전송 중인 연결 (감시 스레드가 send-timeout-ms 를 넘긴 전송을 찾음)
+    private final Set<Connection> sending = ConcurrentHashMap.newKeySet();
+    // 막힌 전송 대신 추가한 전송 스레드 수
+    private int stalledSenders;
+    private final Counter droppedCounter;
+    private final Counter slowDisconnectCounter;
+
+    public TodoChangeStream(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${todo.stream.timeout-ms:1800000}") long timeoutMillis,
+                            @Value("${todo.stream.max-connections-per-user:5}") int maxConnectionsPerUser,
+                            @Value("${todo.stream.max-pending-events:100}") int maxPendingEvents,
+                            @Value("${todo.stream.sender-threads:4}") int senderThreads,
+                            @Value("${todo.stream.send-timeout-ms:5000}") long sendTimeoutMillis,
+                            @Value("${todo.stream.heartbeat-seconds:30}") long heartbeatSeconds) {
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeoutMillis;
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.maxPendingEvents = maxPendingEvents;
+        this.senderThreads = senderThreads;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMillis);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = new ScheduledThreadPoolExecutor(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "todo-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.dispatcher.scheduleWithFixedDelay(this::sendHeartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        // 전송 스레드가 모두 막혀도 동작하도록 별도 스레드에서 감시
+        this.watchdog = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "todo-stream-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long checkIntervalMillis = Math.max(1, sendTimeoutMillis / 4);
+        this.watchdog.scheduleWithFixedDelay(this::closeStalledConnections, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+
+        Gauge.builder("todo.stream.connections", connectionCount, AtomicInteger::get)
+                .description("열려 있는 할일 변경 알림 연결 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("todo.stream.events.dropped")
+                .description("전송이 밀려 버린 할일 변경 이벤트 수")
+                .register(meterRegistry);
+        this.slowDisconnectCounter = Counter.builder("todo.stream.slow.disconnects")
+                .description("전송이 밀려 종료한 연결 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        watchdog.shutdownNow();
+        dispatcher.shutdownNow();
+        for (Deque<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                try {
+                    connection.emitter.complete();
+                } catch (RuntimeException e) {
+                    // 이미 끊긴 연결
+                }
+            }
+        }
+    }
+
+    /*
+     * 사용자의 변경 알림 연결 등록
+     * */
+    public SseEmitter subscribe(String userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Connection connection = new Connection(userId, emitter);
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
+        // 최대 시간이 지나면 정상 종료 (클라이언트가 다시 연결)
+        emitter.onTimeout(emitter::complete);
+
+        Connection[] evicted = new Connection[1];
+        connections.compute(userId, (key, userConnections) -> {
+            if (userConnections == null) {
+                userConnections = new ConcurrentLinkedDeque<>();
+            }
+            if (userConnections.size() >= maxConnectionsPerUser) {
+                evicted[0] = userConnections.pollFirst();
+                connectionCount.decrementAndGet();
+            }
+            userConnections.addLast(connection);
+            connectionCount.incrementAndGet();
+            return userConnections;
+        });
+        if (evicted[0] != null) {
+            close(evicted[0]);
+        }
+
+        // 응답 헤더를 바로 보내 연결이 열렸음을 알림
+        enqueue(connection, SseEmitter.event().comment("connected"));
+        return emitter;
+    }
+
+    /*
+     * 변경 이벤트 전송 (커밋 이후 호출, 전송 완료를 기다리지 않음)
+     * */
+    public void publish(String userId, TodoChangeEvent event) {
+        Deque<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+
+        for (Connection connection : userConnections) {
+            enqueue(connection, SseEmitter.event().name(event.getType()).data(data, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    private void sendHeartbeat() {
+        for (Deque<Connection> userConnections : connections.values()) {
+            for (Connection connection : userConnections) {
+                enqueue(connection, SseEmitter.event().comment(""));
+            }
+        }
+    }
+
+    /*
+     * 연결의 대기 큐에 이벤트 추가, 전송 중이 아니면 전송 작업 예약
+     * - 대기 이벤트가 max-pending-events 를 넘으면 (클라이언트가 받지 못하는 상태) 연결 종료
+     * */
+    private void enqueue(Connection connection, SseEmitter.SseEventBuilder event) {
+        if (connection.closed) {
+            return;
+        }
+        if (connection.pendingCount.incrementAndGet() > maxPendingEvents) {
+            connection.pendingCount.decrementAndGet();
+            droppedCounter.increment();
+            slowDisconnectCounter.increment();
+            close(connection);
+            return;
+        }
+        connection.pending.add(event);
+        schedule(connection);
+    }
+
+    private void schedule(Connection connection) {
+        if (connection.scheduled.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(() -> drain(connection));
+            } catch (RejectedExecutionException e) {
+                // 종료 중
+                connection.scheduled.set(false);
+            }
+        }
+    }
+
+    /*
+     * 연결의 대기 이벤트를 순서대로 전송 (연결마다 동시에 하나의 전송 스레드만 실행)
+     * */
+    private void drain(Connection connection) {
+        SseEmitter.SseEventBuilder event;
+        while (!connection.closed && (event = connection.pending.poll()) != null) {
+            connection.pendingCount.decrementAndGet();
+            connection.sendStartedAt = System.nanoTime();
+            sending.add(connection);
+            try {
+                connection.emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                // 끊긴 연결 (컨테이너가 오류 완료 처리)
+                connection.closed = true;
+                remove(connection);
+            } finally {
+                sending.remove(connection);
+                finishSend(connection);
+            }
+        }
+        if (connection.closed) {
+            droppedCounter.increment(discard(connection));
+            connection.emitter.complete();
+            return;
+        }
+        connection.scheduled.set(false);
+        // 예약 해제 직전에 추가된 이벤트나 종료 요청이 있으면 다시 예약
+        if (connection.closed || !connection.pending.isEmpty()) {
+            schedule(connection);
+        }
+    }
+
+    /*
+     * send-timeout-ms 를 넘긴 전송의 연결 종료 (감시 스레드)
+     * - 막힌 전송 스레드는 소켓 쓰기가 끝날 때까지 돌아오지 않으므로 전송 스레드를 하나 추가
+     * - 종료 후 전송 스레드가 돌아오면 drain 에서 연결을 정리하고 추가한 스레드를 줄임
+     * */
+    private void closeStalledConnections() {
+        long now = System.nanoTime();
+        for (Connection connection : sending) {
+            synchronized (connection) {
+                if (connection.stalled || connection.sendStartedAt == 0 || now - connection.sendStartedAt < sendTimeoutNanos) {
+                    continue;
+                }
+                if (!connection.closed) {
+                    slowDisconnectCounter.increment();
+                }
+                connection.stalled = true;
+                connection.closed = true;
+                resizeDispatcher(1);
+            }
+            close(connection);
+        }
+    }
+
+    /*
+     * 전송 종료 (막혔던 전송이면 대신 추가한 전송 스레드 정리)
+     * */
+    private void finishSend(Connection connection) {
+        synchronized (connection) {
+            connection.sendStartedAt = 0;
+            if (connection.stalled) {
+                resizeDispatcher(-1);
+            }
+        }
+    }
+
+    private synchronized void resizeDispatcher(int delta) {
+        stalledSenders += delta;
+        dispatcher.setCorePoolSize(senderThreads + stalledSenders);
+    }
+
+    /*
+     * 연결 종료 (전송 중이면 전송 스레드가 현재 이벤트를 보낸 후 종료, 아니면 전송 스레드에서 바로 종료)
+     * - 전송이 막힌 연결의 SseEmitter 에 다른 스레드가 접근하면 함께 막히므로 전송 스레드에서만 complete 호출
+     * */
+    private void close(Connection connection) {
+        connection.closed = true;
+        remove(connection);
+        schedule(connection);
+    }
+
+    private int discard(Connection connection) {
+        int discarded = 0;
+        while (connection.pending.poll() != null) {
+            connection.pendingCount.decrementAndGet();
+            discarded++;
+        }
+        return discarded;
+    }
+
+    private void remove(Connection connection) {
+        connections.computeIfPresent(connection.userId, (key, userConnections) -> {
+            if (userConnections.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+            return userConnections.isEmpty() ? null : userConnections;
+        });
+    }
+
+    /*
+     * 연결과 전송 대기 이벤트
+     * */
+    private static final class Connection {
+        private final String userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        // 전송 작업이 예약되었거나 실행 중
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+        // 현재 전송 시작 시각 (System.nanoTime, 전송 중이 아니면 0)
+        private volatile long sendStartedAt;
+        // 전송이 send-timeout-ms 를 넘겨 감시 스레드가 종료함 (이후 전송하지 않음)
+        private boolean stalled;
+
+        Connection(String userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+}
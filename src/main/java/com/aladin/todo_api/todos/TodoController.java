@@ -1,14 +1,28 @@
 package com.aladin.todo_api.todos;
 
+import com.aladin.todo_api.common.response.CursorPage;
 import com.aladin.todo_api.common.response.ResponseUtil;
+import com.aladin.todo_api.todos.dto.TodoBulkDto;
+import com.aladin.todo_api.todos.dto.TodoChangeEvent;
 import com.aladin.todo_api.todos.dto.TodoDto;
 import com.aladin.todo_api.todos.dto.TodoModifyDto;
 import com.aladin.todo_api.todos.dto.TodoSearchDto;
+import com.aladin.todo_api.todos.dto.TodoSummaryDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequestMapping("/todos")
@@ -26,21 +40,109 @@ public class TodoController {
         return ResponseUtil.response("등록에 성공하였습니다.", todo);
     }
 
+    /*
+     * 할일 일괄 등록
+     * */
+    @PostMapping("/batch")
+    public ResponseEntity<?> createTodos(@RequestBody List<TodoDto> dtos, Authentication authentication) {
+        List<Long> ids = todoService.createTodos(dtos, authentication);
+        // 할일 id 는 2^53 을 넘으므로 문자열로 응답 (Todo.id 와 동일)
+        List<String> body = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            body.add(String.valueOf(id));
+        }
+        return ResponseUtil.response("일괄 등록에 성공하였습니다.", body);
+    }
+
+    /*
+     * 할일 가져오기 (format: ndjson, csv)
+     * */
+    @PostMapping("/import")
+    public ResponseEntity<StreamingResponseBody> importTodos(@RequestParam(defaultValue = "ndjson") String format,
+                                                             HttpServletRequest request, Authentication authentication) throws IOException {
+        ExportFormat importFormat = ExportFormat.fromString(format);
+        StreamingResponseBody body = todoService.importTodos(importFormat, request.getInputStream(), authentication);
+        return ResponseEntity.ok()
+                .contentType(ExportFormat.NDJSON.getMediaType())
+                .body(body);
+    }
+
     /*
      * 할일 목록 조회
+     * - after, limit 중 하나라도 전달되면 커서 기반으로 조회
+     * - 커서 없는 조회는 If-None-Match 지원
      * */
     @GetMapping()
-    public ResponseEntity<?> getTodos(Authentication authentication) {
+    public ResponseEntity<?> getTodos(@RequestParam(required = false) String after,
+                                      @RequestParam(required = false) Integer limit, Authentication authentication,
+                                      WebRequest webRequest) {
+        if (after != null || limit != null) {
+            CursorPage<Todo> todos = todoService.getTodos(after, limit, authentication);
+            String message = todos.getContent().isEmpty()? "등록된 할일이 없습니다." : "목록 조회에 성공하였습니다.";
+            return ResponseUtil.response(message, todos);
+        }
         Page<Todo> todos = todoService.getTodos(authentication);
+        // 목록 캐시에서 가져온 첫 페이지로 ETag 비교 (변경 없으면 304, 직렬화 생략)
+        if (webRequest.checkNotModified(TodoETags.ofList(todos.getContent(), todos.getTotalElements()))) {
+            return null;
+        }
         String message = todos.isEmpty()? "등록된 할일이 없습니다." : "목록 조회에 성공하였습니다.";
         return ResponseUtil.response(message, todos);
     }
 
     /*
-     * 할일 단건 조회
+     * 할일 내보내기 (format: ndjson, csv)
+     * */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(@RequestParam(defaultValue = "ndjson") String format,
+                                                             Authentication authentication) {
+        ExportFormat exportFormat = ExportFormat.fromString(format);
+        StreamingResponseBody body = todoService.exportTodos(exportFormat, authentication);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
+    /*
+     * 할일 변경 내역 조회 (델타 동기화)
+     * - 응답의 nextCursor 를 다음 동기화의 since 로 전달, hasNext 이면 바로 이어서 조회
+     * */
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChanges(@RequestParam(required = false) String since,
+                                        @RequestParam(required = false) Integer limit, Authentication authentication) {
+        CursorPage<TodoChangeEvent> changes = todoService.getChanges(since, limit, authentication);
+        String message = changes.getContent().isEmpty() ? "변경된 할일이 없습니다." : "변경 내역 조회에 성공하였습니다.";
+        return ResponseUtil.response(message, changes);
+    }
+
+    /*
+     * 할일 변경 알림 (Server-Sent Events)
+     * - created, modified, deleted, refresh 이벤트
+     * */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTodos(Authentication authentication) {
+        return todoService.streamTodos(authentication);
+    }
+
+    /*
+     * 할일 상태별 건수 요약
+     * */
+    @GetMapping("/summary")
+    public ResponseEntity<?> getSummary(Authentication authentication) {
+        TodoSummaryDto summary = todoService.getSummary(authentication);
+        return ResponseUtil.response("요약 조회에 성공하였습니다.", summary);
+    }
+
+    /*
+     * 할일 단건 조회 (If-None-Match 지원)
      * */
     @GetMapping("/{id}")
-    public ResponseEntity<?> getTodo(@PathVariable Long id, Authentication authentication) {
+    public ResponseEntity<?> getTodo(@PathVariable Long id, Authentication authentication, WebRequest webRequest) {
+        // 수정 시각만 조회해 ETag 비교 (변경 없으면 304, 엔티티 로딩 생략)
+        if (webRequest.checkNotModified(todoService.getTodoETag(id, authentication))) {
+            return null;
+        }
         Todo todo = todoService.getTodo(id, authentication);
         return ResponseUtil.response("단건 조회에 성공하였습니다.", todo);
     }
@@ -64,13 +166,38 @@ public class TodoController {
 
     }
 
+    /*
+     * 할일 상태 일괄 변경
+     * */
+    @PutMapping("/bulk")
+    public ResponseEntity<?> modifyTodosStatus(@RequestBody TodoBulkDto dto, Authentication authentication) {
+        int count = todoService.modifyTodosStatus(dto, authentication);
+        return ResponseUtil.response("일괄 수정에 성공하였습니다.", count);
+    }
+
+    /*
+     * 할일 일괄 삭제
+     * */
+    @DeleteMapping("/bulk")
+    public ResponseEntity<?> deleteTodos(@RequestBody TodoBulkDto dto, Authentication authentication) {
+        int count = todoService.deleteTodos(dto, authentication);
+        return ResponseUtil.response("일괄 삭제에 성공하였습니다.", count);
+    }
+
     /*
      * 할일 검색
      * */
     @GetMapping("/search")
     public ResponseEntity<?> searchTodo(@RequestParam(defaultValue = "ALL") String searchType,
-                                        @RequestParam String searchWord, Authentication authentication) {
+                                        @RequestParam String searchWord,
+                                        @RequestParam(required = false) String after,
+                                        @RequestParam(required = false) Integer limit, Authentication authentication) {
         TodoSearchDto dto = new TodoSearchDto(searchType, searchWord);
+        // 커서/limit 을 지정한 경우만 커서 기반 응답 (목록 조회와 동일)
+        if (after != null || limit != null) {
+            CursorPage<Todo> todos = todoService.searchTodo(dto, after, limit, authentication);
+            return ResponseUtil.response("검색에 성공하였습니다.", todos);
+        }
         Page<Todo> todos = todoService.searchTodo(dto, authentication);
         return ResponseUtil.response("검색에 성공하였습니다.", todos);
     }
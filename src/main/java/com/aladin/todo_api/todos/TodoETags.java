@@ -0,0 +1,48 @@
+package com.aladin.todo_api.todos;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/*
+ * 할일 조회 응답의 ETag 생성 (If-None-Match 304 처리용)
+ * - 단건: id + updatedAt
+ * - 목록: 전체 건수 + 목록에 포함된 할일의 id, updatedAt 해시
+ * */
+public final class TodoETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private TodoETags() {
+    }
+
+    public static String of(Long id, LocalDateTime updatedAt) {
+        return "\"todo-" + id + "-" + toNanos(updatedAt) + "\"";
+    }
+
+    public static String ofList(List<Todo> todos, long totalCount) {
+        long hash = mix(FNV_OFFSET_BASIS, totalCount);
+        for (Todo todo : todos) {
+            hash = mix(hash, todo.getId());
+            hash = mix(hash, toNanos(todo.getUpdatedAt()));
+        }
+        return "\"todos-" + Long.toHexString(hash) + "\"";
+    }
+
+    private static long toNanos(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return 0L;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + dateTime.getNano();
+    }
+
+    // FNV-1a 64bit (8바이트 단위)
+    private static long mix(long hash, long value) {
+        for (int i = 0; i < 8; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
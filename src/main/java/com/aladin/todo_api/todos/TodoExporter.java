@@ -0,0 +1,156 @@
+package com.aladin.todo_api.todos;
+
+import com.aladin.todo_api.common.exception.ServiceUnavailableException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.Semaphore;
+
+/*
+ * 할일 내보내기 (NDJSON / CSV)
+ * - 읽기 전용 커넥션의 전진 전용 커서로 한 행씩 읽어 바로 출력 (엔티티/목록을 메모리에 올리지 않음)
+ * - 클라이언트가 받는 속도로 진행되어 끝날 때까지 읽기 커넥션을 점유하므로 동시 내보내기 수 제한 (초과 시 503)
+ * */
+@Component
+public class TodoExporter {
+
+    private static final String SELECT_TODOS =
+            "SELECT id, title, description, status, created_at, updated_at FROM todo " +
+            "WHERE user_id = ? ORDER BY id DESC";
+
+    private static final String CSV_HEADER = "id,title,description,status,createdAt,updatedAt";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final Semaphore permits;
+
+    public TodoExporter(@Qualifier("meteredReaderDataSource") DataSource readerDataSource,
+                        @Value("${todo.export.fetch-size:1000}") int fetchSize,
+                        @Value("${todo.export.max-concurrent:0}") int maxConcurrent,
+                        ObjectMapper objectMapper) {
+        this.jdbcTemplate = new JdbcTemplate(readerDataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+        this.objectMapper = objectMapper;
+        this.permits = new Semaphore(maxConcurrent > 0 ? maxConcurrent : Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+    }
+
+    /*
+     * 내보내기 응답 본문 생성 (동시 내보내기가 max-concurrent 에 도달하면 ServiceUnavailableException)
+     * - 허가는 본문 출력이 끝나거나 실패하면 반환
+     * */
+    public StreamingResponseBody prepare(String userId, ExportFormat format) {
+        if (!permits.tryAcquire()) {
+            throw new ServiceUnavailableException("내보내기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", 5);
+        }
+        return out -> {
+            try {
+                export(userId, format, out);
+            } finally {
+                permits.release();
+            }
+        };
+    }
+
+    /*
+     * 사용자의 할일 전체를 지정한 형식으로 출력
+     * */
+    public void export(String userId, ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try {
+            if (format == ExportFormat.CSV) {
+                writeCsv(userId, writer);
+            } else {
+                writeNdjson(userId, writer);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private void writeNdjson(String userId, Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        generator.setRootValueSeparator(null);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        jdbcTemplate.query(SELECT_TODOS, rs -> {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("id", Long.toString(rs.getLong("id"))); // API 응답과 같이 문자열
+                generator.writeStringField("title", rs.getString("title"));
+                generator.writeStringField("description", rs.getString("description"));
+                generator.writeStringField("status", rs.getString("status"));
+                generator.writeStringField("createdAt", getDateTime(rs, "created_at"));
+                generator.writeStringField("updatedAt", getDateTime(rs, "updated_at"));
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, userId);
+        generator.flush();
+    }
+
+    private void writeCsv(String userId, Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+
+        jdbcTemplate.query(SELECT_TODOS, rs -> {
+            try {
+                writer.write(Long.toString(rs.getLong("id")));
+                writer.write(',');
+                writeCsvField(writer, rs.getString("title"));
+                writer.write(',');
+                writeCsvField(writer, rs.getString("description"));
+                writer.write(',');
+                writeCsvField(writer, rs.getString("status"));
+                writer.write(',');
+                writeCsvField(writer, getDateTime(rs, "created_at"));
+                writer.write(',');
+                writeCsvField(writer, getDateTime(rs, "updated_at"));
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, userId);
+    }
+
+    /*
+     * RFC 4180: 쉼표, 따옴표, 줄바꿈이 포함된 값은 따옴표로 감싸고 따옴표는 두 번 씀
+     * */
+    private void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private String getDateTime(ResultSet rs, String column) throws SQLException {
+        Timestamp timestamp = rs.getTimestamp(column);
+        return timestamp == null ? null : timestamp.toLocalDateTime().toString();
+    }
+}
@@ -0,0 +1,447 @@
+package com.aladin.todo_api.todos;
+
+import com.aladin.todo_api.common.db.WritePipeline;
+import com.aladin.todo_api.common.exception.ServiceUnavailableException;
+import com.aladin.todo_api.todos.dto.TodoChangeEvent;
+import com.aladin.todo_api.todos.dto.TodoDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * 할일 가져오기 (NDJSON / CSV)
+ * - 요청 본문을 한 행씩 읽어 검증 후 chunk-size 단위로 저장 (chunk 마다 별도 트랜잭션)
+ * - 진행 상황(chunk)과 행 단위 오류를 NDJSON 이벤트로 응답 스트림에 출력
+ * - 파일 전체나 저장 결과를 메모리에 올리지 않음 (max-record-length 를 넘는 행은 건너뛰고 행 오류로 출력)
+ * */
+@Component
+public class TodoImporter {
+
+    private static final int MAX_WRITE_RETRIES = 10;
+
+    private final Logger log = (Logger) LoggerFactory.getLogger(TodoImporter.class);
+    private final TodoRepository todoRepository;
+    private final WritePipeline writePipeline;
+    private final TodoListCache todoListCache;
+    private final TodoChangeStream todoChangeStream;
+    private final ObjectMapper objectMapper;
+
+    @Value("${todo.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${todo.import.max-errors:1000}")
+    private int maxErrors;
+
+    @Value("${todo.import.max-record-length:65536}")
+    private int maxRecordLength;
+
+    public TodoImporter(TodoRepository todoRepository, WritePipeline writePipeline,
+                        TodoListCache todoListCache, TodoChangeStream todoChangeStream, ObjectMapper objectMapper) {
+        this.todoRepository = todoRepository;
+        this.writePipeline = writePipeline;
+        this.todoListCache = todoListCache;
+        this.todoChangeStream = todoChangeStream;
+        this.objectMapper = objectMapper;
+    }
+
+    /*
+     * 요청 본문의 할일을 가져와 저장하고 진행 상황 출력
+     * */
+    public void importTodos(String userId, ExportFormat format, InputStream in, OutputStream out) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        JsonGenerator events = objectMapper.getFactory().createGenerator(out);
+        events.setRootValueSeparator(null);
+        events.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        ImportProgress progress = new ImportProgress();
+        List<TodoDto> chunk = new ArrayList<>(chunkSize);
+        RecordReader records = format == ExportFormat.CSV ? new CsvRecordReader(reader, maxRecordLength) : new NdjsonRecordReader(reader);
+
+        while (true) {
+            TodoDto dto;
+            try {
+                dto = records.next();
+            } catch (IllegalArgumentException e) {
+                progress.failed++;
+                writeError(events, progress, records.getLineNumber(), e.getMessage());
+                continue;
+            }
+            if (dto == null) {
+                break;
+            }
+
+            String error = validate(dto);
+            if (error != null) {
+                progress.failed++;
+                writeError(events, progress, records.getLineNumber(), error);
+                continue;
+            }
+            chunk.add(dto);
+
+            if (chunk.size() >= chunkSize) {
+                writeChunk(userId, chunk, events, progress);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            writeChunk(userId, chunk, events, progress);
+        }
+
+        events.writeStartObject();
+        events.writeStringField("type", "summary");
+        events.writeNumberField("chunks", progress.chunks);
+        events.writeNumberField("imported", progress.imported);
+        events.writeNumberField("failed", progress.failed);
+        events.writeEndObject();
+        events.writeRaw('\n');
+        events.flush();
+    }
+
+    /*
+     * 행 검증 (제목, 내용 필수)
+     * */
+    private String validate(TodoDto dto) {
+        if (dto.getTitle() == null || dto.getTitle().trim().isEmpty()) {
+            return "제목은 필수 입력값입니다.";
+        }
+        if (dto.getDescription() == null || dto.getDescription().trim().isEmpty()) {
+            return "내용은 필수 입력값입니다.";
+        }
+        return null;
+    }
+
+    /*
+     * chunk 저장 후 진행 상황 출력 (쓰기 큐가 가득 차면 잠시 대기 후 재시도)
+     * */
+    private void writeChunk(String userId, List<TodoDto> chunk, JsonGenerator events, ImportProgress progress) throws IOException {
+        List<TodoDto> todos = new ArrayList<>(chunk);
+        chunk.clear();
+        progress.chunks++;
+
+        String error = null;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                // 쓰기 작업이 재실행되어도 id 가 없는 새 엔티티로 저장하도록 작업 안에서 생성
+                writePipeline.execute(() -> todoRepository.saveAll(toEntities(userId, todos)));
+                break;
+            } catch (ServiceUnavailableException e) {
+                if (attempt >= MAX_WRITE_RETRIES) {
+                    error = e.getMessage();
+                    break;
+                }
+                sleep(TimeUnit.SECONDS.toMillis(e.getRetryAfterSeconds()));
+            } catch (RuntimeException e) {
+                log.warn("할일 가져오기 chunk 저장 실패", e);
+                error = e.getMessage();
+                break;
+            }
+        }
+
+        if (error == null) {
+            progress.imported += todos.size();
+            todoListCache.invalidate(userId);
+            todoChangeStream.publish(userId, TodoChangeEvent.refresh());
+        } else {
+            progress.failed += todos.size();
+        }
+
+        events.writeStartObject();
+        events.writeStringField("type", "chunk");
+        events.writeNumberField("chunk", progress.chunks);
+        events.writeNumberField("size", todos.size());
+        events.writeBooleanField("success", error == null);
+        if (error != null) {
+            events.writeStringField("message", error);
+        }
+        events.writeNumberField("imported", progress.imported);
+        events.writeNumberField("failed", progress.failed);
+        events.writeEndObject();
+        events.writeRaw('\n');
+        events.flush();
+    }
+
+    private List<Todo> toEntities(String userId, List<TodoDto> dtos) {
+        List<Todo> todos = new ArrayList<>(dtos.size());
+        for (TodoDto dto : dtos) {
+            todos.add(Todo.builder()
+                    .userId(userId)
+                    .title(dto.getTitle())
+                    .description(dto.getDescription())
+                    .status(Status.fromString(dto.getStatus()))
+                    .build());
+        }
+        return todos;
+    }
+
+    /*
+     * 행 단위 오류 출력 (max-errors 건까지만 상세 출력, 이후에는 건수만 집계)
+     * */
+    private void writeError(JsonGenerator events, ImportProgress progress, long lineNumber, String message) throws IOException {
+        if (++progress.errors > maxErrors) {
+            return;
+        }
+        events.writeStartObject();
+        events.writeStringField("type", "error");
+        events.writeNumberField("line", lineNumber);
+        events.writeStringField("message", message);
+        events.writeEndObject();
+        events.writeRaw('\n');
+    }
+
+    private void sleep(long millis) throws IOException {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("할일 가져오기가 중단되었습니다.", e);
+        }
+    }
+
+    private static class ImportProgress {
+        private long chunks;
+        private long imported;
+        private long failed;
+        private long errors;
+    }
+
+    /*
+     * 요청 본문에서 할일을 한 건씩 읽는 리더
+     * - 입력의 끝에서만 null 반환, 잘못된 행(형식 오류, 길이 초과)은 IllegalArgumentException
+     * */
+    private interface RecordReader {
+        TodoDto next() throws IOException;
+
+        long getLineNumber();
+    }
+
+    private class NdjsonRecordReader implements RecordReader {
+
+        private final BufferedReader reader;
+        private final StringBuilder line = new StringBuilder();
+        private long lineNumber;
+
+        NdjsonRecordReader(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public TodoDto next() throws IOException {
+            do {
+                if (!readLine()) {
+                    return null;
+                }
+                lineNumber++;
+            } while (line.toString().trim().isEmpty());
+
+            JsonNode record;
+            try {
+                record = objectMapper.readTree(line.toString());
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("잘못된 JSON 형식입니다.");
+            }
+            // null, 배열, 숫자 등 객체가 아닌 행은 입력의 끝이 아닌 행 오류로 처리
+            if (record == null || !record.isObject()) {
+                throw new IllegalArgumentException("할일은 JSON 객체여야 합니다.");
+            }
+            try {
+                return objectMapper.treeToValue(record, TodoDto.class);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("잘못된 JSON 형식입니다.");
+            }
+        }
+
+        /*
+         * 한 행 읽기 (입력의 끝이면 false)
+         * - max-record-length 를 넘으면 행 끝까지 버린 후 IllegalArgumentException
+         * */
+        private boolean readLine() throws IOException {
+            line.setLength(0);
+            boolean tooLong = false;
+            int c = reader.read();
+            if (c < 0) {
+                return false;
+            }
+            while (c >= 0 && c != '\n') {
+                if (line.length() < maxRecordLength) {
+                    line.append((char) c);
+                } else {
+                    tooLong = true;
+                }
+                c = reader.read();
+            }
+            if (line.length() > 0 && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+            }
+            if (tooLong) {
+                lineNumber++;
+                line.setLength(0);
+                throw new IllegalArgumentException("행이 너무 깁니다. (최대 " + maxRecordLength + "자)");
+            }
+            return true;
+        }
+
+        @Override
+        public long getLineNumber() {
+            return lineNumber;
+        }
+    }
+
+    /*
+     * RFC 4180 CSV 리더 (첫 행은 헤더, title/description/status 컬럼 사용)
+     * - 따옴표로 감싼 값 안의 쉼표, 줄바꿈, 두 번 쓴 따옴표 처리
+     * */
+    private static class CsvRecordReader implements RecordReader {
+
+        private final BufferedReader reader;
+        private final int maxRecordLength;
+        private final StringBuilder field = new StringBuilder();
+        private Map<String, Integer> header;
+        private long lineNumber = 1;
+        private long recordLineNumber;
+        private boolean eof;
+
+        CsvRecordReader(BufferedReader reader, int maxRecordLength) {
+            this.reader = reader;
+            this.maxRecordLength = maxRecordLength;
+        }
+
+        @Override
+        public TodoDto next() throws IOException {
+            if (header == null) {
+                List<String> columns;
+                try {
+                    columns = readRecord();
+                } catch (IllegalArgumentException e) {
+                    eof = true; // 헤더를 읽을 수 없으면 이후 행은 읽지 않음
+                    throw e;
+                }
+                if (columns == null) {
+                    return null;
+                }
+                Map<String, Integer> indexes = new HashMap<>();
+                for (int i = 0; i < columns.size(); i++) {
+                    indexes.put(columns.get(i).trim().toLowerCase(), i);
+                }
+                if (!indexes.containsKey("title") || !indexes.containsKey("description")) {
+                    eof = true; // 헤더가 잘못되면 이후 행은 읽지 않음
+                    throw new IllegalArgumentException("CSV 헤더에 title, description 컬럼이 필요합니다.");
+                }
+                header = indexes;
+            }
+
+            List<String> values;
+            do {
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isEmpty());
+
+            return new TodoDto(column(values, "title"), column(values, "description"), column(values, "status"));
+        }
+
+        @Override
+        public long getLineNumber() {
+            return recordLineNumber;
+        }
+
+        private String column(List<String> values, String name) {
+            Integer index = header.get(name);
+            return index == null || index >= values.size() ? null : values.get(index);
+        }
+
+        /*
+         * 한 레코드 읽기 (입력의 끝이면 null)
+         * - 레코드 길이가 max-record-length 를 넘으면 값을 보관하지 않고 레코드 끝까지 읽은 후 IllegalArgumentException
+         * */
+        private List<String> readRecord() throws IOException {
+            if (eof) {
+                return null;
+            }
+            recordLineNumber = lineNumber;
+            List<String> values = new ArrayList<>();
+            boolean quoted = false;
+            boolean read = false;
+            int length = 0;
+            field.setLength(0);
+
+            while (true) {
+                int c = reader.read();
+                if (c < 0) {
+                    eof = true;
+                    if (quoted) {
+                        throw new IllegalArgumentException("따옴표가 닫히지 않았습니다.");
+                    }
+                    if (!read) {
+                        return null;
+                    }
+                    return endRecord(values, length);
+                }
+                read = true;
+                length++;
+
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            append(length, '"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        if (c == '\n') {
+                            lineNumber++;
+                        }
+                        append(length, (char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    if (length <= maxRecordLength) {
+                        values.add(field.toString());
+                    }
+                    field.setLength(0);
+                } else if (c == '\r') {
+                    // CRLF 의 CR 은 무시
+                } else if (c == '\n') {
+                    lineNumber++;
+                    return endRecord(values, length);
+                } else {
+                    append(length, (char) c);
+                }
+            }
+        }
+
+        private void append(int length, char c) {
+            if (length <= maxRecordLength) {
+                field.append(c);
+            }
+        }
+
+        private List<String> endRecord(List<String> values, int length) {
+            if (length > maxRecordLength) {
+                field.setLength(0);
+                throw new IllegalArgumentException("행이 너무 깁니다. (최대 " + maxRecordLength + "자)");
+            }
+            values.add(field.toString());
+            return values;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.aladin.todo_api.todos;
+
+import com.aladin.todo_api.common.cache.LruCache;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/*
+ * 사용자별 최근 할일 목록(첫 페이지) 캐시
+ * - 사용자 수 / 추정 메모리 사용량 기준 LRU 제거
+ * - 할일 등록/수정/삭제 커밋 후 invalidate
+ * - 조회 중 invalidate 된 경우 조회 결과를 캐시에 저장하지 않음 (stale 방지)
+ * */
+@Component
+public class TodoListCache {
+
+    private static final int STRIPES = 1024;
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    private static final int TODO_OVERHEAD_BYTES = 160;
+
+    @Value("${todo.list-cache.max-users:10000}")
+    private int maxUsers;
+
+    @Value("${todo.list-cache.max-bytes:67108864}")
+    private long maxBytes;
+
+    private LruCache<String, RecentTodos> cache;
+    // 사용자별 변경 버전 (userId 해시로 분할)
+    private final AtomicLongArray versions = new AtomicLongArray(STRIPES);
+    private final Object lock = new Object();
+
+    @PostConstruct
+    public void init() {
+        this.cache = new LruCache<>(maxUsers, maxBytes, (userId, recent) -> estimateBytes(recent));
+    }
+
+    /*
+     * 캐시 조회, 없으면 loader 로 조회 후 저장
+     * */
+    public RecentTodos get(String userId, Function<String, RecentTodos> loader) {
+        RecentTodos cached = cache.get(userId);
+        if (cached != null) {
+            return cached;
+        }
+
+        int stripe = stripe(userId);
+        long version = versions.get(stripe);
+        RecentTodos loaded = loader.apply(userId);
+
+        synchronized (lock) {
+            if (versions.get(stripe) == version) {
+                cache.put(userId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    /*
+     * 사용자의 할일 변경 시 캐시 무효화 (커밋 이후 호출)
+     * */
+    public void invalidate(String userId) {
+        synchronized (lock) {
+            versions.incrementAndGet(stripe(userId));
+            cache.remove(userId);
+        }
+    }
+
+    public void clear() {
+        synchronized (lock) {
+            for (int i = 0; i < STRIPES; i++) {
+                versions.incrementAndGet(i);
+            }
+            cache.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public double getHitRate() {
+        return cache.getHitRate();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    public long getEstimatedBytes() {
+        return cache.weight();
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    private int stripe(String userId) {
+        return (userId.hashCode() & 0x7fffffff) % STRIPES;
+    }
+
+    private static int estimateBytes(RecentTodos recent) {
+        int bytes = ENTRY_OVERHEAD_BYTES;
+        for (Todo todo : recent.getTodos()) {
+            bytes += TODO_OVERHEAD_BYTES
+                    + 2 * (length(todo.getUserId()) + length(todo.getTitle()) + length(todo.getDescription()));
+        }
+        return bytes;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    /*
+     * 최근 할일 목록과 전체 건수
+     * */
+    @Getter
+    @AllArgsConstructor
+    public static class RecentTodos {
+        private final List<Todo> todos;
+        private final long totalCount;
+    }
+}
@@ -3,28 +3,105 @@ package com.aladin.todo_api.todos;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TodoRepository extends JpaRepository<Todo, Long> {
+public interface TodoRepository extends JpaRepository<Todo, Long>, TodoRepositoryCustom {
 
     @Query(" SELECT t FROM Todo t WHERE t.userId = :userId " +
             "ORDER BY t.id DESC ")
     Page<Todo> findAllByUserId(String userId, Pageable pageable);
 
+    // 커서 기반 조회: (userId, id DESC) 인덱스를 따라 seek 하며 COUNT 쿼리를 수행하지 않음
+    @Query(" SELECT t FROM Todo t WHERE t.userId = :userId AND t.id < :afterId " +
+            "ORDER BY t.id DESC ")
+    List<Todo> findAllByUserIdAfter(@Param("userId") String userId, @Param("afterId") Long afterId, Pageable pageable);
+
     Optional<Todo> findByIdAndUserId(Long id, String userId);
 
-    void deleteByIdAndUserId(Long id, String userId);
+    // 상태별 건수: 트리거로 관리되는 todo_count 조회 (COUNT(*) 없이 사용자당 최대 3행)
+    @Query(value = " SELECT status AS status, cnt AS count FROM todo_count WHERE user_id = :userId ", nativeQuery = true)
+    List<StatusCount> countByStatus(@Param("userId") String userId);
 
-    @Query(" SELECT t FROM Todo t WHERE t.userId = :userId " +
+    interface StatusCount {
+        String getStatus();
+
+        long getCount();
+    }
+
+    // 델타 동기화: 트리거로 관리되는 todo_change 를 (user_id, seq) 인덱스를 따라 커서 이후부터 조회
+    // 처음 동기화(since = 0)에는 삭제 이력 제외
+    @Query(value = " SELECT seq AS seq, todo_id AS todoId, deleted AS deleted FROM todo_change " +
+            "WHERE user_id = :userId AND seq > :since AND (:since > 0 OR deleted = 0) " +
+            "ORDER BY seq ", nativeQuery = true)
+    List<Change> findChangesAfter(@Param("userId") String userId, @Param("since") long since, Pageable pageable);
+
+    interface Change {
+        long getSeq();
+
+        long getTodoId();
+
+        int getDeleted();
+    }
+
+    // ETag 비교용: 엔티티를 로딩하지 않고 수정 시각만 조회 (수정 시각이 null 일 수 있어 List 로 반환)
+    @Query(" SELECT t.updatedAt FROM Todo t WHERE t.id = :id AND t.userId = :userId ")
+    List<LocalDateTime> findUpdatedAtByIdAndUserId(@Param("id") Long id, @Param("userId") String userId);
+
+    // 일괄 상태 변경: 엔티티 로딩 없이 단일 UPDATE 실행
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(" UPDATE Todo t SET t.status = :status, t.updatedAt = :updatedAt " +
+            "WHERE t.userId = :userId AND t.id IN :ids AND (:currentStatus IS NULL OR t.status = :currentStatus) ")
+    int updateStatusByIds(@Param("userId") String userId, @Param("ids") List<Long> ids, @Param("currentStatus") Status currentStatus,
+                          @Param("status") Status status, @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(" UPDATE Todo t SET t.status = :status, t.updatedAt = :updatedAt " +
+            "WHERE t.userId = :userId AND t.status = :currentStatus ")
+    int updateStatusByStatus(@Param("userId") String userId, @Param("currentStatus") Status currentStatus,
+                             @Param("status") Status status, @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 일괄 삭제: 엔티티 로딩 없이 단일 DELETE 실행
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(" DELETE FROM Todo t " +
+            "WHERE t.userId = :userId AND t.id IN :ids AND (:currentStatus IS NULL OR t.status = :currentStatus) ")
+    int deleteAllByIds(@Param("userId") String userId, @Param("ids") List<Long> ids, @Param("currentStatus") Status currentStatus);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(" DELETE FROM Todo t WHERE t.userId = :userId AND t.status = :currentStatus ")
+    int deleteAllByStatus(@Param("userId") String userId, @Param("currentStatus") Status currentStatus);
+
+    // 검색어가 짧아 FTS5 인덱스를 사용할 수 없는 경우의 LIKE 검색
+    @Query(" SELECT t FROM Todo t WHERE t.userId = :userId AND t.id < :afterId " +
             "AND ((:searchType = 'ALL' AND (t.title LIKE %:searchWord% OR t.description LIKE %:searchWord%)) " +
             "OR (:searchType = 'TITLE' AND t.title LIKE %:searchWord%) " +
             "OR (:searchType = 'DESCRIPTION' AND t.description LIKE %:searchWord%))" +
             "ORDER BY t.id DESC ")
-    Page<Todo> searchTodos(@Param("userId") String userId, @Param("searchType") String searchType, @Param("searchWord") String searchWord, Pageable pageable);
+    List<Todo> searchTodos(@Param("userId") String userId, @Param("searchType") String searchType, @Param("searchWord") String searchWord,
+                           @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(" SELECT COUNT(t) FROM Todo t WHERE t.userId = :userId " +
+            "AND ((:searchType = 'ALL' AND (t.title LIKE %:searchWord% OR t.description LIKE %:searchWord%)) " +
+            "OR (:searchType = 'TITLE' AND t.title LIKE %:searchWord%) " +
+            "OR (:searchType = 'DESCRIPTION' AND t.description LIKE %:searchWord%))")
+    long countSearchTodos(@Param("userId") String userId, @Param("searchType") String searchType, @Param("searchWord") String searchWord);
+
+    // FTS5 검색: 일치하는 rowid 만 조회한 뒤 사용자/커서 조건으로 필터링
+    @Query(value = " SELECT t.* FROM todo t WHERE t.id IN (SELECT rowid FROM todo_fts WHERE todo_fts MATCH :matchQuery) " +
+            "AND t.user_id = :userId AND t.id < :afterId " +
+            "ORDER BY t.id DESC ", nativeQuery = true)
+    List<Todo> searchTodosByIndex(@Param("userId") String userId, @Param("matchQuery") String matchQuery,
+                                  @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(value = " SELECT COUNT(*) FROM todo t WHERE t.id IN (SELECT rowid FROM todo_fts WHERE todo_fts MATCH :matchQuery) " +
+            "AND t.user_id = :userId ", nativeQuery = true)
+    long countSearchTodosByIndex(@Param("userId") String userId, @Param("matchQuery") String matchQuery);
 }
@@ -0,0 +1,14 @@
+package com.aladin.todo_api.todos;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface TodoRepositoryCustom {
+
+    // 소유자 확인과 수정을 한 문장으로 실행 후 수정된 행 반환 (null 인 값은 변경하지 않음)
+    Optional<Todo> updateReturning(Long id, String userId, String title, String description, Status status,
+                                   LocalDateTime updatedAt);
+
+    // 소유자 확인과 삭제를 한 문장으로 실행 후 삭제된 행 반환
+    Optional<Todo> deleteReturning(Long id, String userId);
+}
@@ -0,0 +1,63 @@
+package com.aladin.todo_api.todos;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/*
+ * UPDATE / DELETE ... RETURNING 으로 조회 없이 한 번에 수정/삭제
+ * - 실행 전 영속성 컨텍스트를 flush/clear 하여 같은 트랜잭션의 변경을 먼저 반영하고
+ *   이전에 로딩된 엔티티가 RETURNING 결과 대신 반환되지 않도록 함
+ * */
+public class TodoRepositoryCustomImpl implements TodoRepositoryCustom {
+
+    private static final String UPDATE_RETURNING =
+            "UPDATE todo SET title = COALESCE(:title, title), description = COALESCE(:description, description), " +
+            "status = COALESCE(:status, status), updated_at = :updatedAt " +
+            "WHERE id = :id AND user_id = :userId RETURNING *";
+
+    private static final String DELETE_RETURNING =
+            "DELETE FROM todo WHERE id = :id AND user_id = :userId RETURNING *";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Todo> updateReturning(Long id, String userId, String title, String description, Status status,
+                                          LocalDateTime updatedAt) {
+        Query query = prepare(UPDATE_RETURNING)
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .setParameter("title", title)
+                .setParameter("description", description)
+                .setParameter("status", status == null ? null : status.name())
+                .setParameter("updatedAt", updatedAt);
+        return getResult(query);
+    }
+
+    @Override
+    public Optional<Todo> deleteReturning(Long id, String userId) {
+        Query query = prepare(DELETE_RETURNING)
+                .setParameter("id", id)
+                .setParameter("userId", userId);
+        Optional<Todo> deleted = getResult(query);
+        // 삭제된 행은 영속성 컨텍스트에서 제외
+        deleted.ifPresent(entityManager::detach);
+        return deleted;
+    }
+
+    private Query prepare(String sql) {
+        entityManager.flush();
+        entityManager.clear();
+        return entityManager.createNativeQuery(sql, Todo.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Optional<Todo> getResult(Query query) {
+        List<Todo> rows = query.getResultList();
+        return rows.isEmpty() ? Optional.empty() : Optional.of(rows.get(0));
+    }
+}
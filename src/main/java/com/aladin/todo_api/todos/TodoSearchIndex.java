@@ -0,0 +1,38 @@
+package com.aladin.todo_api.todos;
+
+/*
+ * 할일 검색용 FTS5 인덱스 (todo_fts) 질의 생성
+ * - 인덱스 테이블과 동기화 트리거는 db/migration/V3__create_todo_fts.sql 에서 생성
+ * - trigram 토크나이저로 한글 부분 문자열 검색 지원
+ * */
+public final class TodoSearchIndex {
+
+    // trigram 토크나이저는 3글자 이상의 검색어만 인덱스로 찾을 수 있음
+    public static final int MIN_TERM_LENGTH = 3;
+
+    private TodoSearchIndex() {
+    }
+
+    /*
+     * 검색 유형별 FTS5 MATCH 구문 생성 (검색어는 phrase로 감싸 특수문자 무력화)
+     * */
+    public static String toMatchQuery(SearchType searchType, String searchWord) {
+        String phrase = "\"" + searchWord.replace("\"", "\"\"") + "\"";
+        switch (searchType) {
+            case TITLE:
+                return "title : " + phrase;
+            case DESCRIPTION:
+                return "description : " + phrase;
+            default:
+                return phrase;
+        }
+    }
+
+    /*
+     * 인덱스 검색 가능 여부 (검색어가 trigram 최소 길이 이상인지)
+     * */
+    public static boolean isIndexable(String searchWord) {
+        return searchWord != null
+                && searchWord.trim().codePointCount(0, searchWord.trim().length()) >= MIN_TERM_LENGTH;
+    }
+}
@@ -1,26 +1,56 @@
 package com.aladin.todo_api.todos;
 
+import com.aladin.todo_api.common.db.WritePipeline;
+import com.aladin.todo_api.common.response.CursorPage;
+import com.aladin.todo_api.todos.TodoListCache.RecentTodos;
+import com.aladin.todo_api.todos.dto.TodoBulkDto;
+import com.aladin.todo_api.todos.dto.TodoChangeEvent;
 import com.aladin.todo_api.todos.dto.TodoDto;
 import com.aladin.todo_api.todos.dto.TodoModifyDto;
 import com.aladin.todo_api.todos.dto.TodoSearchDto;
+import com.aladin.todo_api.todos.dto.TodoSummaryDto;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.persistence.EntityNotFoundException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class TodoService {
 
+    private static final int DEFAULT_PAGE_SIZE = 10;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int DEFAULT_CHANGES_SIZE = 100;
+    private static final int MAX_CHANGES_SIZE = 1000;
+
     private final Logger log = (Logger) LoggerFactory.getLogger(TodoService.class);
     private final TodoRepository todoRepository;
+    private final WritePipeline writePipeline;
+    private final TodoListCache todoListCache;
+    private final TodoExporter todoExporter;
+    private final TodoImporter todoImporter;
+    private final TodoChangeStream todoChangeStream;
+
+    @Value("${todo.batch.max-size:10000}")
+    private int maxBatchSize;
 
     /*
      * AccessToken 검증 후 userId 가져오기
@@ -38,90 +68,381 @@ public class TodoService {
         return todo;
     }
 
+    /*
+     * 사용자의 최근 할일 목록(첫 페이지) 조회
+     * */
+    private RecentTodos loadRecentTodos(String userId) {
+        List<Todo> todos = todoRepository.findAllByUserIdAfter(userId, Long.MAX_VALUE, PageRequest.of(0, DEFAULT_PAGE_SIZE));
+        return new RecentTodos(todos, getSummary(userId).getTotal());
+    }
+
+    /*
+     * 사용자의 상태별 할일 건수 (todo_count 조회)
+     * */
+    private TodoSummaryDto getSummary(String userId) {
+        long pending = 0;
+        long inProgress = 0;
+        long completed = 0;
+        for (TodoRepository.StatusCount count : todoRepository.countByStatus(userId)) {
+            switch (Status.fromString(count.getStatus())) {
+                case IN_PROGRESS:
+                    inProgress += count.getCount();
+                    break;
+                case COMPLETED:
+                    completed += count.getCount();
+                    break;
+                default:
+                    pending += count.getCount();
+            }
+        }
+        return new TodoSummaryDto(pending, inProgress, completed, pending + inProgress + completed);
+    }
+
+    /*
+     * 할일 변경 커밋 이후 처리 (목록 캐시 무효화, 변경 알림 전송)
+     * */
+    private void onTodosChanged(String userId, TodoChangeEvent event) {
+        todoListCache.invalidate(userId);
+        todoChangeStream.publish(userId, event);
+    }
+
     /*
      * 할일 등록
      * */
-    @Transactional
     public Todo createTodo(TodoDto dto, Authentication authentication) {
         String userId = getUserId(authentication);
         Status statusEnum = Status.fromString(dto.getStatus());
 
-        Todo todo = Todo.builder()
-                .userId(userId)
-                .title(dto.getTitle())
-                .description(dto.getDescription())
-                .status(statusEnum)
-                .build();
-        return todoRepository.save(todo);
+        Todo created = writePipeline.execute(() -> {
+            Todo todo = Todo.builder()
+                    .userId(userId)
+                    .title(dto.getTitle())
+                    .description(dto.getDescription())
+                    .status(statusEnum)
+                    .build();
+            return todoRepository.save(todo);
+        });
+        onTodosChanged(userId, TodoChangeEvent.created(created));
+        return created;
+    }
+
+    /*
+     * 할일 일괄 등록
+     * - 한 트랜잭션에서 JDBC batch insert로 저장 후 생성된 id 목록 반환
+     * */
+    public List<Long> createTodos(List<TodoDto> dtos, Authentication authentication) {
+        String userId = getUserId(authentication);
+        if (dtos == null || dtos.isEmpty()) {
+            throw new IllegalArgumentException("등록할 할일이 없습니다.");
+        }
+        if (dtos.size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxBatchSize + "건까지 등록할 수 있습니다.");
+        }
+
+        List<Status> statuses = new ArrayList<>(dtos.size());
+        for (TodoDto dto : dtos) {
+            if (dto == null || dto.getTitle() == null || dto.getDescription() == null) {
+                throw new IllegalArgumentException("제목과 내용은 필수 입력값입니다.");
+            }
+            statuses.add(Status.fromString(dto.getStatus()));
+        }
+
+        // 재시도 시 id 가 없는 새 엔티티로 저장하도록 작업 안에서 생성
+        List<Long> ids = writePipeline.execute(() -> {
+            List<Todo> todos = new ArrayList<>(dtos.size());
+            for (int i = 0; i < dtos.size(); i++) {
+                TodoDto dto = dtos.get(i);
+                todos.add(Todo.builder()
+                        .userId(userId)
+                        .title(dto.getTitle())
+                        .description(dto.getDescription())
+                        .status(statuses.get(i))
+                        .build());
+            }
+            List<Long> created = new ArrayList<>(todos.size());
+            for (Todo todo : todoRepository.saveAll(todos)) {
+                created.add(todo.getId());
+            }
+            return created;
+        });
+        onTodosChanged(userId, TodoChangeEvent.refresh());
+        return ids;
+    }
+
+    /*
+     * 할일 가져오기
+     * - 요청 본문을 읽는 대로 chunk 단위로 저장하고 진행 상황을 응답 스트림에 출력
+     * */
+    public StreamingResponseBody importTodos(ExportFormat format, InputStream in, Authentication authentication) {
+        String userId = getUserId(authentication);
+        return out -> todoImporter.importTodos(userId, format, in, out);
+    }
+
+    /*
+     * 할일 변경 알림 구독 (Server-Sent Events)
+     * */
+    public SseEmitter streamTodos(Authentication authentication) {
+        return todoChangeStream.subscribe(getUserId(authentication));
     }
 
     /*
      * 할일 목록 조회
      * */
-    @Transactional
+    @Transactional(readOnly = true)
     public Page<Todo> getTodos(Authentication authentication) {
         String userId = getUserId(authentication);
-        Pageable pageable = PageRequest.of(0, 10);
+        Pageable pageable = PageRequest.of(0, DEFAULT_PAGE_SIZE);
+
+        RecentTodos recent = todoListCache.get(userId, this::loadRecentTodos);
+        return new PageImpl<>(recent.getTodos(), pageable, recent.getTotalCount());
+    }
+
+    /*
+     * 할일 목록 조회 (커서 기반)
+     * */
+    @Transactional(readOnly = true)
+    public CursorPage<Todo> getTodos(String after, Integer limit, Authentication authentication) {
+        String userId = getUserId(authentication);
+        Long afterId = CursorPage.decodeCursor(after);
+        int size = getPageSize(limit);
+
+        // 기본 크기의 첫 페이지는 목록 캐시 사용
+        if (afterId == null && size == DEFAULT_PAGE_SIZE) {
+            RecentTodos recent = todoListCache.get(userId, this::loadRecentTodos);
+            return CursorPage.of(recent.getTodos(), recent.getTotalCount() > recent.getTodos().size(), Todo::getId);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 limit + 1 건 조회
+        List<Todo> todos = todoRepository.findAllByUserIdAfter(userId,
+                afterId == null ? Long.MAX_VALUE : afterId, PageRequest.of(0, size + 1));
+        return CursorPage.of(todos, size, Todo::getId);
+    }
+
+    /*
+     * 할일 변경 내역 조회 (델타 동기화)
+     * - 커서 이후 변경된 할일의 최신 상태(modified)와 삭제된 id(deleted)를 변경 순서대로 반환
+     * - 커서가 없으면 전체 할일 (삭제 이력 제외)
+     * - 변경이 없어도 nextCursor 를 반환하므로 다음 동기화에 그대로 전달
+     * */
+    @Transactional(readOnly = true)
+    public CursorPage<TodoChangeEvent> getChanges(String since, Integer limit, Authentication authentication) {
+        String userId = getUserId(authentication);
+        Long sinceSeq = CursorPage.decodeCursor(since);
+        long after = sinceSeq == null ? 0 : sinceSeq;
+        int size = getPageSize(limit, DEFAULT_CHANGES_SIZE, MAX_CHANGES_SIZE);
+
+        List<TodoRepository.Change> rows = todoRepository.findChangesAfter(userId, after, PageRequest.of(0, size + 1));
+        boolean hasNext = rows.size() > size;
+        if (hasNext) {
+            rows = rows.subList(0, size);
+        }
+
+        // 삭제되지 않은 할일은 한 번에 조회 (같은 읽기 트랜잭션이므로 변경 이력과 일치)
+        List<Long> ids = new ArrayList<>(rows.size());
+        for (TodoRepository.Change row : rows) {
+            if (row.getDeleted() == 0) {
+                ids.add(row.getTodoId());
+            }
+        }
+        Map<Long, Todo> todos = new HashMap<>(ids.size() * 2);
+        for (Todo todo : todoRepository.findAllById(ids)) {
+            todos.put(todo.getId(), todo);
+        }
+
+        List<TodoChangeEvent> changes = new ArrayList<>(rows.size());
+        for (TodoRepository.Change row : rows) {
+            Todo todo = todos.get(row.getTodoId());
+            changes.add(todo == null ? TodoChangeEvent.deleted(row.getTodoId()) : TodoChangeEvent.modified(todo));
+        }
+        long last = rows.isEmpty() ? after : rows.get(rows.size() - 1).getSeq();
+        return new CursorPage<>(changes, CursorPage.encodeCursor(last), hasNext);
+    }
+
+    /*
+     * 페이지 크기 보정 (기본 10건, 최대 100건)
+     * */
+    private int getPageSize(Integer limit) {
+        return getPageSize(limit, DEFAULT_PAGE_SIZE, MAX_PAGE_SIZE);
+    }
+
+    private int getPageSize(Integer limit, int defaultSize, int maxSize) {
+        if (limit == null) {
+            return defaultSize;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("조회 건수는 1 이상이어야 합니다.");
+        }
+        return Math.min(limit, maxSize);
+    }
+
+    /*
+     * 할일 내보내기
+     * - 응답 스트림에 직접 출력하므로 할일 건수와 관계없이 메모리 사용량 일정
+     * */
+    public StreamingResponseBody exportTodos(ExportFormat format, Authentication authentication) {
+        String userId = getUserId(authentication);
+        return todoExporter.prepare(userId, format);
+    }
 
-        return todoRepository.findAllByUserId(userId, pageable);
+    /*
+     * 할일 상태별 건수 요약
+     * */
+    @Transactional(readOnly = true)
+    public TodoSummaryDto getSummary(Authentication authentication) {
+        return getSummary(getUserId(authentication));
     }
 
     /*
      * 할일 단건 조회
      * */
-    @Transactional
+    @Transactional(readOnly = true)
     public Todo getTodo(Long id, Authentication authentication) {
         String userId = getUserId(authentication);
         return getTodoByIdAndUser(id, userId);
     }
 
+    /*
+     * 할일 단건 ETag 조회 (수정 시각만 조회)
+     * */
+    @Transactional(readOnly = true)
+    public String getTodoETag(Long id, Authentication authentication) {
+        String userId = getUserId(authentication);
+        List<LocalDateTime> updatedAt = todoRepository.findUpdatedAtByIdAndUserId(id, userId);
+        if (updatedAt.isEmpty()) {
+            throw new EntityNotFoundException("존재하지 않는 정보입니다.");
+        }
+        return TodoETags.of(id, updatedAt.get(0));
+    }
+
     /*
      * 할일 수정
+     * - UPDATE ... RETURNING 한 문장으로 소유자 확인, 수정, 결과 조회
      * */
-    @Transactional
     public Todo modifyTodo(Long id, TodoModifyDto dto, Authentication authentication) {
         String userId = getUserId(authentication);
-        Todo todo = getTodoByIdAndUser(id, userId);
+        String title = emptyToNull(dto.getTitle());
+        String description = emptyToNull(dto.getDescription());
+        Status status = dto.getStatus() == null ? null : Status.fromString(dto.getStatus());
+        LocalDateTime now = LocalDateTime.now();
 
-        if (dto.getTitle() != null && !dto.getTitle().trim().isEmpty()) {
-            todo.setTitle(dto.getTitle());
-        }
-        if (dto.getDescription() != null && !dto.getDescription().trim().isEmpty()) {
-            todo.setDescription(dto.getDescription());
-        }
-        if (dto.getStatus() != null) {
-            Status statusEnum = Status.fromString(dto.getStatus());
-            todo.setStatus(statusEnum);
-        }
-        return todoRepository.save(todo);
+        Todo modified = writePipeline.execute(() ->
+                todoRepository.updateReturning(id, userId, title, description, status, now)
+                        .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 정보입니다.")));
+        onTodosChanged(userId, TodoChangeEvent.modified(modified));
+        return modified;
     }
 
     /*
      * 할일 삭제
+     * - DELETE ... RETURNING 한 문장으로 소유자 확인, 삭제, 삭제된 행 조회
      * */
-    @Transactional
     public Todo deleteTodo(Long id, Authentication authentication) {
         String userId = getUserId(authentication);
 
-        Todo todo = getTodoByIdAndUser(id, userId);
-        todoRepository.deleteByIdAndUserId(id, userId);
+        Todo deleted = writePipeline.execute(() ->
+                todoRepository.deleteReturning(id, userId)
+                        .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 정보입니다.")));
+        onTodosChanged(userId, TodoChangeEvent.deleted(deleted.getId()));
+        return deleted;
+    }
 
-        return todo;
+    /*
+     * 공백만 있는 입력은 변경하지 않음
+     * */
+    private String emptyToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value;
+    }
+
+    /*
+     * 할일 상태 일괄 변경
+     * - id 목록 또는 현재 상태 조건으로 단일 UPDATE 실행 후 변경 건수 반환
+     * */
+    public int modifyTodosStatus(TodoBulkDto dto, Authentication authentication) {
+        String userId = getUserId(authentication);
+        validateBulkCondition(dto);
+        if (dto.getStatus() == null) {
+            throw new IllegalArgumentException("변경할 상태값은 필수 입력값입니다.");
+        }
+        Status status = Status.parse(dto.getStatus());
+        Status currentStatus = dto.getCurrentStatus() == null ? null : Status.parse(dto.getCurrentStatus());
+        LocalDateTime now = LocalDateTime.now();
+
+        int updated = writePipeline.execute(() -> hasIds(dto)
+                ? todoRepository.updateStatusByIds(userId, dto.getIds(), currentStatus, status, now)
+                : todoRepository.updateStatusByStatus(userId, currentStatus, status, now));
+        onTodosChanged(userId, TodoChangeEvent.refresh());
+        return updated;
+    }
+
+    /*
+     * 할일 일괄 삭제
+     * - id 목록 또는 현재 상태 조건으로 단일 DELETE 실행 후 삭제 건수 반환
+     * */
+    public int deleteTodos(TodoBulkDto dto, Authentication authentication) {
+        String userId = getUserId(authentication);
+        validateBulkCondition(dto);
+        Status currentStatus = dto.getCurrentStatus() == null ? null : Status.parse(dto.getCurrentStatus());
+
+        int deleted = writePipeline.execute(() -> hasIds(dto)
+                ? todoRepository.deleteAllByIds(userId, dto.getIds(), currentStatus)
+                : todoRepository.deleteAllByStatus(userId, currentStatus));
+        onTodosChanged(userId, TodoChangeEvent.refresh());
+        return deleted;
+    }
+
+    /*
+     * 일괄 처리 조건 검증 (id 목록, 현재 상태 중 하나 이상 필수)
+     * */
+    private void validateBulkCondition(TodoBulkDto dto) {
+        if (dto == null || (!hasIds(dto) && dto.getCurrentStatus() == null)) {
+            throw new IllegalArgumentException("대상 id 목록 또는 현재 상태는 필수 입력값입니다.");
+        }
+        if (hasIds(dto) && dto.getIds().size() > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxBatchSize + "건까지 처리할 수 있습니다.");
+        }
+    }
+
+    private boolean hasIds(TodoBulkDto dto) {
+        return dto.getIds() != null && !dto.getIds().isEmpty();
     }
 
     /*
      * 할일 검색
+     * - 3글자 이상의 검색어는 FTS5 인덱스, 그 외에는 LIKE 검색
      * */
-    @Transactional
+    @Transactional(readOnly = true)
     public Page<Todo> searchTodo(TodoSearchDto dto, Authentication authentication) {
         String userId = getUserId(authentication);
-
-        Pageable pageable = PageRequest.of(0, 10);
+        Pageable pageable = PageRequest.of(0, DEFAULT_PAGE_SIZE);
 
         SearchType searchTypeEnum = SearchType.fromString(dto.getSearchType());
-        String searchType = searchTypeEnum.name();
+        String searchWord = dto.getSearchWord();
+
+        List<Todo> todos = findSearchResults(userId, searchTypeEnum, searchWord, Long.MAX_VALUE, pageable);
+        // 첫 페이지가 가득 차지 않으면 전체 건수 조회 생략
+        return PageableExecutionUtils.getPage(todos, pageable, () -> TodoSearchIndex.isIndexable(searchWord)
+                ? todoRepository.countSearchTodosByIndex(userId, TodoSearchIndex.toMatchQuery(searchTypeEnum, searchWord))
+                : todoRepository.countSearchTodos(userId, searchTypeEnum.name(), searchWord));
+    }
+
+    /*
+     * 할일 검색 (커서 기반)
+     * */
+    @Transactional(readOnly = true)
+    public CursorPage<Todo> searchTodo(TodoSearchDto dto, String after, Integer limit, Authentication authentication) {
+        String userId = getUserId(authentication);
+        Long afterId = CursorPage.decodeCursor(after);
+        int size = getPageSize(limit);
+
+        List<Todo> todos = findSearchResults(userId, SearchType.fromString(dto.getSearchType()), dto.getSearchWord(),
+                afterId == null ? Long.MAX_VALUE : afterId, PageRequest.of(0, size + 1));
+        return CursorPage.of(todos, size, Todo::getId);
+    }
 
-        return todoRepository.searchTodos(userId, searchType, dto.getSearchWord(), pageable);
+    private List<Todo> findSearchResults(String userId, SearchType searchType, String searchWord, long afterId, Pageable pageable) {
+        return TodoSearchIndex.isIndexable(searchWord)
+                ? todoRepository.searchTodosByIndex(userId, TodoSearchIndex.toMatchQuery(searchType, searchWord), afterId, pageable)
+                : todoRepository.searchTodos(userId, searchType.name(), searchWord, afterId, pageable);
     }
 
 }
@@ -0,0 +1,21 @@
+package com.aladin.todo_api.todos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@Getter
+@AllArgsConstructor
+@Builder
+public class TodoBulkDto {
+
+    private List<Long> ids; // 대상 할일 id 목록 (선택)
+
+    private String currentStatus; // 대상 할일 현재 상태 (선택)
+
+    private String status; // 변경할 상태 (상태 일괄 변경 시 필수)
+}
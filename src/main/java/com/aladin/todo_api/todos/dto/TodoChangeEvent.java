@@ -0,0 +1,48 @@
+package com.aladin.todo_api.todos.dto;
+
+import com.aladin.todo_api.todos.Todo;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/*
+ * 할일 변경 이벤트 (/todos/stream, /todos/changes)
+ * - created, modified: 변경된 할일 (/todos/changes 는 등록/수정 구분 없이 최신 상태를 modified 로 반환)
+ * - deleted: 삭제된 할일 id
+ * - refresh: 일괄 변경/가져오기 등 여러 건이 바뀐 경우 (목록 다시 조회)
+ * */
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TodoChangeEvent {
+
+    public static final String CREATED = "created";
+    public static final String MODIFIED = "modified";
+    public static final String DELETED = "deleted";
+    public static final String REFRESH = "refresh";
+
+    private String type;
+
+    @JsonSerialize(using = ToStringSerializer.class) // Todo.id 와 같이 문자열로 응답
+    private Long id;
+
+    private Todo todo;
+
+    public static TodoChangeEvent created(Todo todo) {
+        return new TodoChangeEvent(CREATED, todo.getId(), todo);
+    }
+
+    public static TodoChangeEvent modified(Todo todo) {
+        return new TodoChangeEvent(MODIFIED, todo.getId(), todo);
+    }
+
+    public static TodoChangeEvent deleted(Long id) {
+        return new TodoChangeEvent(DELETED, id, null);
+    }
+
+    public static TodoChangeEvent refresh() {
+        return new TodoChangeEvent(REFRESH, null, null);
+    }
+}
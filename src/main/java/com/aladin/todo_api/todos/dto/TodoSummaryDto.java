@@ -0,0 +1,17 @@
+package com.aladin.todo_api.todos.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TodoSummaryDto {
+
+    private long pending;
+
+    private long inProgress;
+
+    private long completed;
+
+    private long total;
+}
@@ -1,6 +1,9 @@
 package com.aladin.todo_api.users;
 
+import com.aladin.todo_api.common.config.HibernateCacheConfig;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -8,6 +11,8 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = HibernateCacheConfig.USER_REGION) // 수정/삭제 시 캐시 갱신
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
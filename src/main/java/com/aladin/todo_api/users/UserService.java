@@ -1,5 +1,7 @@
 package com.aladin.todo_api.users;
 
+import com.aladin.todo_api.common.db.WritePipeline;
+import com.aladin.todo_api.common.security.PasswordHasher;
 import com.aladin.todo_api.common.security.TokenProvider;
 import com.aladin.todo_api.users.dto.LoginDto;
 import com.aladin.todo_api.users.dto.ModifyDto;
@@ -9,7 +11,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -22,10 +23,11 @@ import java.util.Optional;
 public class UserService {
 
     private final Logger log = (Logger) LoggerFactory.getLogger(UserService.class);
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final UserRepository userRepository;
     private final TokenProvider tokenProvider;
     private final UserValidator userValidator;
+    private final WritePipeline writePipeline;
 
     /*
     * SQLite3 단일 쓰기 대응
@@ -45,7 +47,7 @@ public class UserService {
      * 비밀번호 확인
      */
     private void checkPassword(String inputPassword, String savedPassword) {
-        if(!passwordEncoder.matches(inputPassword, savedPassword)) {
+        if(!passwordHasher.matches(inputPassword, savedPassword)) {
             throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
         }
     }
@@ -53,28 +55,30 @@ public class UserService {
     /*
     * 회원가입
     */
-    @Transactional
     public User createUser(SignupDto dto) {
         // 입력값 검증
         userValidator.validateSignupDto(dto);
-
-        User user = User.builder()
-                .userId(dto.getUserId())
-                .password(passwordEncoder.encode(dto.getPassword()))
-                .username(dto.getUsername())
-                .phoneNo(dto.getPhoneNo())
-                .email(dto.getEmail())
-                .build();
-
-        return userRepository.save(user);
+        // 비밀번호 암호화는 쓰기 스레드 밖(비밀번호 전용 풀)에서 수행
+        String encodedPassword = passwordHasher.encode(dto.getPassword());
+
+        return writePipeline.execute(() -> {
+            User user = User.builder()
+                    .userId(dto.getUserId())
+                    .password(encodedPassword)
+                    .username(dto.getUsername())
+                    .phoneNo(dto.getPhoneNo())
+                    .email(dto.getEmail())
+                    .build();
+            return userRepository.save(user);
+        });
     }
 
     /*
     * 로그인(토큰 생성)
+    * - 비밀번호 확인 중에는 커넥션을 점유하지 않도록 트랜잭션 밖에서 수행
     */
-    @Transactional
-        public String loginUser(LoginDto dto) {
-        
+    public String loginUser(LoginDto dto) {
+
         User user = getUser(dto.getUserId());
         log.debug("사용자 ID : {}", dto.getUserId());
 
@@ -87,7 +91,7 @@ public class UserService {
     /*
     * 사용자 정보 조회
     */
-    @Transactional
+    @Transactional(readOnly = true)
     public User getUser(Authentication authentication) {
         String userId = (String) authentication.getPrincipal();
         return getUser(userId);
@@ -95,8 +99,8 @@ public class UserService {
 
     /*
     * 사용자 정보 변경
+    * - 비밀번호 확인/암호화 후 쓰기 파이프라인에서 저장
     */
-    @Transactional
     public User modifyUser(ModifyDto dto, Authentication authentication) {
         String userId = (String) authentication.getPrincipal();
         User user = getUser(userId);
@@ -106,45 +110,55 @@ public class UserService {
         // 입력 값 검증
         userValidator.validateModifyDto(dto);
 
-        // 비밀번호 변경
-        Optional.ofNullable(dto.getNewPassword())
-                .filter(StringUtils::hasText)
-                .ifPresent(newPwd -> {
-                    user.setPassword(passwordEncoder.encode(newPwd));
-                });
-
-        // 사용자 이름 변경
-        Optional.ofNullable(dto.getUsername())
+        // 새 비밀번호 암호화
+        String encodedPassword = Optional.ofNullable(dto.getNewPassword())
                 .filter(StringUtils::hasText)
-                .ifPresent(newName -> {
-                    user.setUsername(newName);
-                });
-
-        // 전화번호 변경
-        Optional.ofNullable(dto.getPhoneNo())
-                .filter(StringUtils::hasText)
-                .ifPresent(newPhone -> {
-                    user.setPhoneNo(newPhone);
-                });
-
-        // 이메일 변경
-        Optional.ofNullable(dto.getEmail())
-                .filter(StringUtils::hasText)
-                .ifPresent(newEmail -> {
-                    user.setEmail(newEmail);
-                });
-
-        return userRepository.save(user);
+                .map(passwordHasher::encode)
+                .orElse(null);
+
+        return writePipeline.execute(() -> {
+            User saved = getUser(userId);
+
+            // 비밀번호 변경
+            Optional.ofNullable(encodedPassword)
+                    .ifPresent(saved::setPassword);
+
+            // 사용자 이름 변경
+            Optional.ofNullable(dto.getUsername())
+                    .filter(StringUtils::hasText)
+                    .ifPresent(newName -> {
+                        saved.setUsername(newName);
+                    });
+
+            // 전화번호 변경
+            Optional.ofNullable(dto.getPhoneNo())
+                    .filter(StringUtils::hasText)
+                    .ifPresent(newPhone -> {
+                        saved.setPhoneNo(newPhone);
+                    });
+
+            // 이메일 변경
+            Optional.ofNullable(dto.getEmail())
+                    .filter(StringUtils::hasText)
+                    .ifPresent(newEmail -> {
+                        saved.setEmail(newEmail);
+                    });
+
+            return userRepository.save(saved);
+        });
     }
 
-    @Transactional
     public User deleteUser(String password, Authentication authentication) {
         String userId = (String) authentication.getPrincipal();
         User user = getUser(userId);
 
         // 사용자 탈퇴 전 비밀번호 확인
         checkPassword(password, user.getPassword());
-        userRepository.deleteById(userId);
+        // 비밀번호 확인 이후 동시에 탈퇴된 경우 삭제할 대상이 없으므로 그대로 성공 처리
+        writePipeline.execute(() -> {
+            userRepository.findById(userId).ifPresent(userRepository::delete);
+            return null;
+        });
 
         return user;
     }
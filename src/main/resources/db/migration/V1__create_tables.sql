@@ -0,0 +1,22 @@
+-- 기존 ddl-auto: update 로 생성된 스키마와 동일 (이미 있으면 건너뜀)
+CREATE TABLE IF NOT EXISTS user (
+    user_id varchar not null,
+    created_at timestamp,
+    email varchar not null,
+    password varchar not null,
+    phone_no varchar not null,
+    updated_at timestamp,
+    username varchar not null,
+    primary key (user_id)
+);
+
+CREATE TABLE IF NOT EXISTS todo (
+    id bigint not null,
+    created_at timestamp,
+    description varchar not null,
+    status varchar not null,
+    title varchar not null,
+    updated_at timestamp,
+    user_id varchar not null,
+    primary key (id)
+);
@@ -0,0 +1,5 @@
+-- 사용자별 목록/커서 조회 (findAllByUserId, findAllByUserIdAfter, findByIdAndUserId)
+CREATE INDEX IF NOT EXISTS idx_todo_user_id_id ON todo (user_id, id DESC);
+
+-- 사용자별 상태 조건 일괄 수정/삭제
+CREATE INDEX IF NOT EXISTS idx_todo_user_id_status ON todo (user_id, status);
@@ -0,0 +1,20 @@
+-- 할일 검색용 FTS5 인덱스 (trigram 토크나이저로 한글 부분 문자열 검색 지원)
+CREATE VIRTUAL TABLE IF NOT EXISTS todo_fts USING fts5(title, description,
+    content='todo', content_rowid='id', tokenize='trigram');
+
+-- 기존 데이터로 인덱스 재구성
+INSERT INTO todo_fts(todo_fts) VALUES ('rebuild');
+
+-- todo 테이블의 등록/수정/삭제를 인덱스에 동기화
+CREATE TRIGGER IF NOT EXISTS todo_fts_ai AFTER INSERT ON todo BEGIN
+    INSERT INTO todo_fts(rowid, title, description) VALUES (new.id, new.title, new.description);
+END;
+
+CREATE TRIGGER IF NOT EXISTS todo_fts_ad AFTER DELETE ON todo BEGIN
+    INSERT INTO todo_fts(todo_fts, rowid, title, description) VALUES ('delete', old.id, old.title, old.description);
+END;
+
+CREATE TRIGGER IF NOT EXISTS todo_fts_au AFTER UPDATE OF title, description ON todo BEGIN
+    INSERT INTO todo_fts(todo_fts, rowid, title, description) VALUES ('delete', old.id, old.title, old.description);
+    INSERT INTO todo_fts(rowid, title, description) VALUES (new.id, new.title, new.description);
+END;
@@ -0,0 +1,29 @@
+-- 사용자별 상태별 할일 건수 (목록 전체 건수, 요약 조회를 COUNT(*) 없이 처리)
+CREATE TABLE IF NOT EXISTS todo_count (
+    user_id varchar not null,
+    status varchar not null,
+    cnt integer not null default 0,
+    primary key (user_id, status)
+) WITHOUT ROWID;
+
+-- 기존 데이터로 건수 초기화
+DELETE FROM todo_count;
+INSERT INTO todo_count (user_id, status, cnt)
+SELECT user_id, status, COUNT(*) FROM todo GROUP BY user_id, status;
+
+-- todo 테이블의 등록/수정/삭제와 같은 트랜잭션에서 건수 갱신
+CREATE TRIGGER IF NOT EXISTS todo_count_ai AFTER INSERT ON todo BEGIN
+    INSERT OR IGNORE INTO todo_count (user_id, status, cnt) VALUES (new.user_id, new.status, 0);
+    UPDATE todo_count SET cnt = cnt + 1 WHERE user_id = new.user_id AND status = new.status;
+END;
+
+CREATE TRIGGER IF NOT EXISTS todo_count_ad AFTER DELETE ON todo BEGIN
+    UPDATE todo_count SET cnt = cnt - 1 WHERE user_id = old.user_id AND status = old.status;
+END;
+
+CREATE TRIGGER IF NOT EXISTS todo_count_au AFTER UPDATE OF user_id, status ON todo
+WHEN old.user_id IS NOT new.user_id OR old.status IS NOT new.status BEGIN
+    UPDATE todo_count SET cnt = cnt - 1 WHERE user_id = old.user_id AND status = old.status;
+    INSERT OR IGNORE INTO todo_count (user_id, status, cnt) VALUES (new.user_id, new.status, 0);
+    UPDATE todo_count SET cnt = cnt + 1 WHERE user_id = new.user_id AND status = new.status;
+END;
@@ -0,0 +1,29 @@
+-- 할일 변경 이력 (델타 동기화 /todos/changes, 삭제된 할일의 tombstone)
+-- 할일마다 마지막 변경 한 행만 유지 (INSERT OR REPLACE 시 새 seq 발급)
+-- AUTOINCREMENT: 마지막 행이 교체되어도 seq 를 재사용하지 않음 (클라이언트 커서 보존)
+CREATE TABLE IF NOT EXISTS todo_change (
+    seq integer primary key autoincrement,
+    todo_id bigint not null unique,
+    user_id varchar not null,
+    deleted integer not null default 0
+);
+
+-- 사용자별 커서 이후 변경 조회
+CREATE INDEX IF NOT EXISTS idx_todo_change_user_id_seq ON todo_change (user_id, seq);
+
+-- 기존 할일은 id 순서로 변경 이력 초기화
+INSERT OR REPLACE INTO todo_change (todo_id, user_id, deleted)
+SELECT id, user_id, 0 FROM todo ORDER BY id;
+
+-- todo 테이블의 등록/수정/삭제와 같은 트랜잭션에서 변경 이력 갱신
+CREATE TRIGGER IF NOT EXISTS todo_change_ai AFTER INSERT ON todo BEGIN
+    INSERT OR REPLACE INTO todo_change (todo_id, user_id, deleted) VALUES (new.id, new.user_id, 0);
+END;
+
+CREATE TRIGGER IF NOT EXISTS todo_change_au AFTER UPDATE ON todo BEGIN
+    INSERT OR REPLACE INTO todo_change (todo_id, user_id, deleted) VALUES (new.id, new.user_id, 0);
+END;
+
+CREATE TRIGGER IF NOT EXISTS todo_change_ad AFTER DELETE ON todo BEGIN
+    INSERT OR REPLACE INTO todo_change (todo_id, user_id, deleted) VALUES (old.id, old.user_id, 1);
+END;
@@ -0,0 +1,43 @@
+package com.aladin.todo_api.common;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class DataSourceRoutingTest {
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 읽기전용_트랜잭션은_읽기전용_커넥션_사용() {
+        // Given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // When & Then: 조회는 가능
+        Integer count = readOnly.execute(status -> jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todo", Integer.class));
+        assertNotNull(count);
+
+        // When & Then: 쓰기는 SQLITE_READONLY
+        Exception e = assertThrows(Exception.class, () -> readOnly.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE todo SET title = title WHERE 1 = 0")));
+        assertTrue(e.getMessage().contains("SQLITE_READONLY"));
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_쓰기_커넥션_사용() {
+        // Given
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // When & Then
+        assertDoesNotThrow(() -> readWrite.executeWithoutResult(status ->
+                jdbcTemplate.update("UPDATE todo SET title = title WHERE 1 = 0")));
+    }
+}
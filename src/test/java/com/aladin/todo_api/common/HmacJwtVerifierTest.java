@@ -0,0 +1,98 @@
+package com.aladin.todo_api.common;
+
+import com.aladin.todo_api.common.security.HmacJwtVerifier;
+import com.aladin.todo_api.common.security.TokenProvider;
+import com.aladin.todo_api.common.security.VerifiedToken;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.SecretKey;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HmacJwtVerifierTest {
+
+    private static final String USER_ID = "aladinUser";
+
+    private SecretKey secretKey;
+    private TokenProvider tokenProvider;
+    private HmacJwtVerifier verifier;
+
+    @BeforeEach
+    void 초기화() {
+        secretKey = Keys.secretKeyFor(SignatureAlgorithm.HS512);
+        tokenProvider = new TokenProvider();
+        tokenProvider.setSecretKeyString(Base64.getEncoder().encodeToString(secretKey.getEncoded()));
+        tokenProvider.setTokenValidityInSeconds(60);
+        tokenProvider.init();
+        verifier = new HmacJwtVerifier(secretKey);
+    }
+
+    @Test
+    void 발급한_토큰_검증() {
+        // Given
+        String token = tokenProvider.generateToken(USER_ID);
+
+        // When
+        VerifiedToken verified = verifier.verify(token, System.currentTimeMillis());
+
+        // Then
+        assertNotNull(verified);
+        assertNotSame(HmacJwtVerifier.REJECTED, verified);
+        assertEquals(USER_ID, verified.getUserId());
+        assertEquals(tokenProvider.verifyToken(token).getExpiresAt(), verified.getExpiresAt());
+    }
+
+    @Test
+    void 변조된_서명_거절() {
+        // Given
+        String token = tokenProvider.generateToken(USER_ID);
+        String fakeToken = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BA" : "AA");
+
+        // When & Then
+        assertSame(HmacJwtVerifier.REJECTED, verifier.verify(fakeToken, System.currentTimeMillis()));
+        assertNull(tokenProvider.findVerifiedToken(fakeToken));
+    }
+
+    @Test
+    void 다른_키로_서명한_토큰_거절() {
+        // Given
+        String token = tokenProvider.generateToken(USER_ID);
+        HmacJwtVerifier otherVerifier = new HmacJwtVerifier(Keys.secretKeyFor(SignatureAlgorithm.HS512));
+
+        // When & Then
+        assertSame(HmacJwtVerifier.REJECTED, otherVerifier.verify(token, System.currentTimeMillis()));
+    }
+
+    @Test
+    void 만료된_토큰_거절() {
+        // Given
+        String token = tokenProvider.generateToken(USER_ID);
+        long expiresAt = verifier.verify(token, System.currentTimeMillis()).getExpiresAt();
+
+        // When & Then
+        assertSame(HmacJwtVerifier.REJECTED, verifier.verify(token, expiresAt + 1));
+    }
+
+    @Test
+    void 처리할_수_없는_형식은_jjwt_로_위임() {
+        // Given: 알 수 없는 claim 이 포함된 토큰
+        String token = Jwts.builder()
+                .setSubject(USER_ID)
+                .claim("role", "admin")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(SignatureAlgorithm.HS512, secretKey)
+                .compact();
+
+        // When & Then
+        assertNull(verifier.verify(token, System.currentTimeMillis()));
+        assertNull(verifier.verify("", System.currentTimeMillis()));
+        assertEquals(USER_ID, tokenProvider.findVerifiedToken(token).getUserId());
+        assertNull(tokenProvider.findVerifiedToken("not-a-jwt"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.aladin.todo_api.common;
+
+import com.aladin.todo_api.common.security.LoginRateLimiter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginRateLimiterTest {
+
+    @Test
+    void 접속_주소별_허용_횟수_초과시_거절() {
+        // Given
+        LoginRateLimiter limiter = new LoginRateLimiter(100, 3, 60, 10, 60);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.acquire("127.0.0.1", "user" + i).isAllowed());
+        }
+        LoginRateLimiter.Result result = limiter.acquire("127.0.0.1", "user9");
+
+        // Then
+        assertFalse(result.isAllowed());
+        assertEquals(3, result.getLimit());
+        assertEquals(0, result.getRemaining());
+        assertEquals(1, result.getRetryAfterSeconds());
+        assertTrue(limiter.acquire("127.0.0.2", "user9").isAllowed());
+    }
+
+    @Test
+    void 버킷_최대_개수_초과시_제거() {
+        // Given
+        LoginRateLimiter limiter = new LoginRateLimiter(4, 10, 60, 10, 60);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            limiter.acquire("10.0.0." + i, "user" + i);
+        }
+
+        // Then
+        assertEquals(4, limiter.size());
+    }
+}
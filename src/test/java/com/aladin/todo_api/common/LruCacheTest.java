@@ -0,0 +1,72 @@
+package com.aladin.todo_api.common;
+
+import com.aladin.todo_api.common.cache.LruCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LruCacheTest {
+
+    @Test
+    void 최대_항목수_초과시_LRU_제거() {
+        // Given
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.put("a", "1");
+        cache.put("b", "2");
+        cache.get("a");
+
+        // When
+        cache.put("c", "3");
+
+        // Then
+        assertEquals("1", cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals("3", cache.get("c"));
+        assertEquals(1, cache.getEvictionCount());
+    }
+
+    @Test
+    void 최대_가중치_초과시_제거() {
+        // Given
+        LruCache<String, String> cache = new LruCache<>(10, 5, (key, value) -> value.length());
+        cache.put("a", "123");
+
+        // When
+        cache.put("b", "1234");
+
+        // Then
+        assertNull(cache.get("a"));
+        assertEquals("1234", cache.get("b"));
+        assertEquals(4, cache.weight());
+    }
+
+    @Test
+    void 만료된_항목은_조회되지_않음() {
+        // Given
+        LruCache<String, String> cache = new LruCache<>(10);
+        cache.put("expired", "1", System.currentTimeMillis() - 1);
+        cache.put("valid", "2", System.currentTimeMillis() + 60_000);
+
+        // When & Then
+        assertNull(cache.get("expired"));
+        assertEquals("2", cache.get("valid"));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void 적중_실패_집계() {
+        // Given
+        LruCache<String, String> cache = new LruCache<>(10);
+        cache.put("a", "1");
+
+        // When
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+
+        // Then
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(2.0 / 3, cache.getHitRate(), 0.0001);
+    }
+}
@@ -0,0 +1,68 @@
+package com.aladin.todo_api.common;
+
+import com.aladin.todo_api.common.security.TokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "security.admin-user-ids=adminUser")
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+class MetricsTest {
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private TokenProvider tokenProvider;
+
+    @Test
+    void 프로메테우스_메트릭_노출() throws Exception {
+        // Given: 인증된 목록 조회 1회
+        String token = tokenProvider.generateToken("metricsUser");
+        mockMvc.perform(get("/todos").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // When: 인증 없이 수집
+        String body = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        // Then
+        assertTrue(body.contains("http_server_requests_seconds_bucket{"), "응답 시간 히스토그램이 없습니다.");
+        assertTrue(body.contains("handler=\"TodoController.getTodos\""), "컨트롤러 메서드 태그가 없습니다.");
+        assertTrue(body.contains("jdbc_statement_seconds_count{pool=\"reader\",type=\"query\""), "JDBC 문장 시간이 없습니다.");
+        assertTrue(body.contains("hikaricp_connections_acquire_seconds"), "커넥션 대기 시간이 없습니다.");
+        assertTrue(body.contains("security_jwt_verification_seconds_count{result=\"valid\""), "JWT 검증 시간이 없습니다.");
+        assertTrue(body.contains("security_password_hash_seconds"), "BCrypt 시간이 없습니다.");
+        assertTrue(body.contains("hibernate_second_level_cache_requests_total{"), "2차 캐시 적중률이 없습니다.");
+        assertTrue(body.contains("region=\"user\""), "사용자 캐시 영역이 없습니다.");
+        assertTrue(body.contains("cache_gets_total{cache=\"jwt\",result=\"miss\""), "JWT 캐시 메트릭이 없습니다.");
+        assertTrue(body.contains("cache_gets_total{cache=\"todoList\",result=\"miss\""), "목록 캐시 메트릭이 없습니다.");
+        assertTrue(body.contains("cache_evictions_total{cache=\"todoList\""), "목록 캐시 제거 건수가 없습니다.");
+        assertTrue(body.contains("cache_size{cache=\"jwt\""), "JWT 캐시 크기가 없습니다.");
+    }
+
+    @Test
+    void 느린_SQL_조회는_관리자만_허용() throws Exception {
+        // Given
+        String userToken = tokenProvider.generateToken("metricsUser");
+        String adminToken = tokenProvider.generateToken("adminUser");
+
+        // When & Then
+        mockMvc.perform(get("/actuator/slowqueries").header("Authorization", "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/slowqueries").header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void 그_외_actuator_엔드포인트는_인증_필요() throws Exception {
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+    }
+}
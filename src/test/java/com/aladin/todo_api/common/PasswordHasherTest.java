@@ -0,0 +1,66 @@
+package com.aladin.todo_api.common;
+
+import com.aladin.todo_api.common.exception.ServiceUnavailableException;
+import com.aladin.todo_api.common.security.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    @Test
+    void 암호화_및_검증() {
+        // Given
+        PasswordHasher hasher = new PasswordHasher(new BCryptPasswordEncoder(4), new SimpleMeterRegistry(), 2, 4, 1);
+
+        // When
+        String encoded = hasher.encode("password1!");
+
+        // Then
+        assertTrue(hasher.matches("password1!", encoded));
+        assertFalse(hasher.matches("password2!", encoded));
+        hasher.shutdown();
+    }
+
+    @Test
+    void 대기열_초과시_503_거절() throws Exception {
+        // Given: 스레드 1개, 대기열 1개를 모두 점유
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder slowEncoder = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        PasswordHasher hasher = new PasswordHasher(slowEncoder, new SimpleMeterRegistry(), 1, 1, 3);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> hasher.encode("a"));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> hasher.encode("b"));
+        while (hasher.getQueueSize() < 1) {
+            Thread.sleep(10);
+        }
+
+        // When & Then
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class, () -> hasher.encode("c"));
+        assertEquals(3, ex.getRetryAfterSeconds());
+
+        release.countDown();
+        assertNotNull(running.get(5, TimeUnit.SECONDS));
+        assertNotNull(queued.get(5, TimeUnit.SECONDS));
+        hasher.shutdown();
+    }
+}
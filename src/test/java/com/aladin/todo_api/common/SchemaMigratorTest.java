@@ -0,0 +1,89 @@
+package com.aladin.todo_api.common;
+
+import com.aladin.todo_api.common.db.SchemaMigrator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchemaMigratorTest {
+
+    @TempDir
+    Path dir;
+
+    private SQLiteDataSource dataSource() {
+        SQLiteDataSource dataSource = new SQLiteDataSource();
+        dataSource.setUrl("jdbc:sqlite:" + dir.resolve("test.db"));
+        return dataSource;
+    }
+
+    private SchemaMigrator migrator(SQLiteDataSource dataSource) {
+        return new SchemaMigrator(dataSource, dir.resolve("migration").toUri().toString());
+    }
+
+    private void write(String name, String script) throws Exception {
+        Files.createDirectories(dir.resolve("migration"));
+        Files.write(dir.resolve("migration").resolve(name), script.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private long count(SQLiteDataSource dataSource, String sql) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    @Test
+    void 버전_순서대로_한번만_적용() throws Exception {
+        // Given
+        SQLiteDataSource dataSource = dataSource();
+        write("V2__add_index.sql", "CREATE INDEX idx_item_name ON item (name);");
+        write("V1__create_item.sql", "CREATE TABLE item (id integer primary key, name varchar);\nINSERT INTO item (name) VALUES ('a');");
+
+        // When
+        migrator(dataSource).migrate();
+        migrator(dataSource).migrate();
+
+        // Then
+        assertEquals(2, count(dataSource, "SELECT COUNT(*) FROM schema_version"));
+        assertEquals(1, count(dataSource, "SELECT COUNT(*) FROM item"));
+        assertEquals(1, count(dataSource, "SELECT COUNT(*) FROM sqlite_master WHERE name = 'idx_item_name'"));
+    }
+
+    @Test
+    void 적용된_스크립트_변경시_실패() throws Exception {
+        // Given
+        SQLiteDataSource dataSource = dataSource();
+        write("V1__create_item.sql", "CREATE TABLE item (id integer primary key);");
+        migrator(dataSource).migrate();
+
+        // When
+        write("V1__create_item.sql", "CREATE TABLE item (id integer primary key, name varchar);");
+
+        // Then
+        IllegalStateException ex = assertThrows(IllegalStateException.class, () -> migrator(dataSource).migrate());
+        assertEquals("이미 적용된 마이그레이션이 변경되었습니다: V1__create_item.sql", ex.getMessage());
+    }
+
+    @Test
+    void 실패한_스크립트는_롤백() throws Exception {
+        // Given
+        SQLiteDataSource dataSource = dataSource();
+        write("V1__create_item.sql", "CREATE TABLE item (id integer primary key);\nINSERT INTO missing VALUES (1);");
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> migrator(dataSource).migrate());
+        assertEquals(0, count(dataSource, "SELECT COUNT(*) FROM schema_version"));
+        assertEquals(0, count(dataSource, "SELECT COUNT(*) FROM sqlite_master WHERE name = 'item'"));
+    }
+}
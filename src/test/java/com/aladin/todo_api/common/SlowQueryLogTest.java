@@ -0,0 +1,126 @@
+package com.aladin.todo_api.common;
+
+import com.aladin.todo_api.common.db.MeteredDataSource;
+import com.aladin.todo_api.common.db.SlowQuery;
+import com.aladin.todo_api.common.db.SlowQueryLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.sqlite.SQLiteDataSource;
+
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlowQueryLogTest {
+
+    @TempDir
+    Path dir;
+
+    private SlowQueryLog slowQueryLog;
+    private MeteredDataSource dataSource;
+
+    @BeforeEach
+    void 초기화() throws Exception {
+        SQLiteDataSource sqlite = new SQLiteDataSource();
+        sqlite.setUrl("jdbc:sqlite:" + dir.resolve("test.db"));
+        try (Connection connection = sqlite.getConnection(); Statement statement = connection.createStatement()) {
+            statement.executeUpdate("CREATE TABLE item (id integer primary key, user_id varchar, name varchar)");
+            statement.executeUpdate("CREATE INDEX idx_item_user_id ON item (user_id)");
+        }
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("meterRegistry", new SimpleMeterRegistry());
+
+        // 기준 시간 0: 모든 문장 기록
+        slowQueryLog = new SlowQueryLog(sqlite, 0, 3);
+        dataSource = new MeteredDataSource(sqlite, beanFactory.getBeanProvider(MeterRegistry.class), slowQueryLog, "reader");
+    }
+
+    @AfterEach
+    void 종료() throws InterruptedException {
+        slowQueryLog.shutdown();
+    }
+
+    private void query(String sql, String parameter) throws Exception {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setString(1, parameter);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    rs.getLong(1);
+                }
+            }
+        }
+    }
+
+    private List<String> awaitPlan() throws InterruptedException {
+        for (int i = 0; i < 100; i++) {
+            List<String> plan = slowQueryLog.getSlowQueries().get(0).getPlan();
+            if (plan != null) {
+                return plan;
+            }
+            Thread.sleep(50);
+        }
+        return fail("실행 계획이 수집되지 않았습니다.");
+    }
+
+    @Test
+    void 느린_문장과_실행_계획_기록() throws Exception {
+        // When
+        query("SELECT id FROM item WHERE name LIKE ?", "%secret%");
+
+        // Then: 바인딩 값 없이 SQL 형태와 전체 스캔 계획 기록
+        SlowQuery slowQuery = slowQueryLog.getSlowQueries().get(0);
+        assertEquals("SELECT id FROM item WHERE name LIKE ?", slowQuery.getSql());
+        assertEquals("reader", slowQuery.getPool());
+        assertEquals("query", slowQuery.getType());
+        assertTrue(awaitPlan().get(0).startsWith("SCAN item"));
+    }
+
+    @Test
+    void 인덱스_사용_계획_기록() throws Exception {
+        // When
+        query("SELECT id FROM item WHERE user_id = ?", "aladinUser");
+
+        // Then
+        assertTrue(awaitPlan().get(0).startsWith("SEARCH item USING"));
+    }
+
+    @Test
+    void 리터럴은_물음표로_치환() throws Exception {
+        // When
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE item SET name = 'it''s secret' WHERE id = 42");
+        }
+
+        // Then
+        SlowQuery slowQuery = slowQueryLog.getSlowQueries().get(0);
+        assertEquals("UPDATE item SET name = ? WHERE id = ?", slowQuery.getSql());
+        assertEquals("update", slowQuery.getType());
+    }
+
+    @Test
+    void 최근_기록만_최신순으로_보관() throws Exception {
+        // When: 보관 개수(3)보다 많이 실행
+        for (int i = 0; i < 5; i++) {
+            query("SELECT id FROM item WHERE user_id = ? AND " + i + " = " + i, "aladinUser");
+        }
+        query("SELECT name FROM item WHERE user_id = ?", "aladinUser");
+
+        // Then
+        List<SlowQuery> slowQueries = slowQueryLog.getSlowQueries();
+        assertEquals(3, slowQueries.size());
+        assertEquals("SELECT name FROM item WHERE user_id = ?", slowQueries.get(0).getSql());
+    }
+}
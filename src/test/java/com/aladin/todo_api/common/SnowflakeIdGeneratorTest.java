@@ -0,0 +1,88 @@
+package com.aladin.todo_api.common;
+
+import com.aladin.todo_api.common.db.SnowflakeIdGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnowflakeIdGeneratorTest {
+
+    private SnowflakeIdGenerator generator(long nodeId) {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator();
+        generator.setNodeId(nodeId);
+        return generator;
+    }
+
+    @Test
+    void 발급_순서대로_증가() {
+        // Given
+        SnowflakeIdGenerator generator = generator(1);
+
+        // When & Then: 같은 밀리초 안에서도 증가
+        long previous = generator.nextId();
+        for (int i = 0; i < 100_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    void 발급_시각과_노드_복원() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        long id = generator(7).nextId();
+
+        // Then
+        assertTrue(id > 0);
+        assertEquals(7, SnowflakeIdGenerator.nodeIdOf(id));
+        assertTrue(SnowflakeIdGenerator.timestampOf(id) >= before);
+        assertTrue(SnowflakeIdGenerator.timestampOf(id) <= System.currentTimeMillis() + 1000);
+    }
+
+    @Test
+    void 여러_스레드에서_동시_발급해도_중복_없음() throws Exception {
+        // Given
+        SnowflakeIdGenerator generator = generator(3);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<long[]>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            tasks.add(() -> {
+                long[] ids = new long[50_000];
+                for (int j = 0; j < ids.length; j++) {
+                    ids[j] = generator.nextId();
+                }
+                return ids;
+            });
+        }
+
+        // When
+        Set<Long> unique = new HashSet<>();
+        for (Future<long[]> future : executor.invokeAll(tasks)) {
+            for (long id : future.get()) {
+                unique.add(id);
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(8 * 50_000, unique.size());
+    }
+
+    @Test
+    void 노드_ID_범위_검증() {
+        assertThrows(IllegalArgumentException.class, () -> generator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+        assertThrows(IllegalArgumentException.class, () -> generator(-1));
+    }
+}
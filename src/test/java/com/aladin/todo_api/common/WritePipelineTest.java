@@ -0,0 +1,174 @@
+package com.aladin.todo_api.common;
+
+import com.aladin.todo_api.common.db.WritePipeline;
+import com.aladin.todo_api.common.exception.ServiceUnavailableException;
+import com.aladin.todo_api.todos.Status;
+import com.aladin.todo_api.todos.Todo;
+import com.aladin.todo_api.todos.TodoRepository;
+import com.aladin.todo_api.todos.TodoService;
+import com.aladin.todo_api.todos.dto.TodoDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.persistence.EntityNotFoundException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+class WritePipelineTest {
+
+    @Autowired private WritePipeline writePipeline;
+    @Autowired private TodoService todoService;
+    @Autowired private TodoRepository todoRepository;
+
+    private static final String USER_ID = "aladinUser";
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAll();
+    }
+
+    @Test
+    void 동시_등록_모두_커밋() throws Exception {
+        // Given
+        Authentication authentication = new UsernamePasswordAuthenticationToken(USER_ID, null, Collections.emptyList());
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Todo>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            TodoDto dto = TodoDto.builder().title("제목" + i).description("내용" + i).status("PENDING").build();
+            futures.add(executor.submit(() -> todoService.createTodo(dto, authentication)));
+        }
+        for (Future<Todo> future : futures) {
+            assertNotNull(future.get().getId());
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(50, todoRepository.count());
+    }
+
+    @Test
+    void 실패한_작업은_다른_작업에_영향을_주지_않음() throws Exception {
+        // Given
+        List<CompletableFuture<Todo>> futures = new ArrayList<>();
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            int index = i;
+            futures.add(writePipeline.submit(() -> {
+                if (index == 5) {
+                    throw new EntityNotFoundException("존재하지 않는 정보입니다.");
+                }
+                return todoRepository.save(Todo.builder()
+                        .userId(USER_ID).title("제목" + index).description("내용").status(Status.PENDING).build());
+            }));
+        }
+
+        // Then
+        for (int i = 0; i < futures.size(); i++) {
+            if (i == 5) {
+                CompletableFuture<Todo> failed = futures.get(i);
+                ExecutionException e = assertThrows(ExecutionException.class, failed::get);
+                assertTrue(e.getCause() instanceof EntityNotFoundException);
+            } else {
+                assertNotNull(futures.get(i).get().getId());
+            }
+        }
+        assertEquals(9, todoRepository.count());
+    }
+
+    @Test
+    void 실패한_작업만_되돌리고_나머지는_한번만_실행() throws Exception {
+        // Given: 쓰기 스레드가 앞선 작업을 처리하는 동안 큐에 쌓인 작업은 한 배치로 커밋됨
+        CountDownLatch blocked = new CountDownLatch(1);
+        CompletableFuture<Object> blocker = writePipeline.submit(() -> {
+            try {
+                blocked.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        AtomicInteger runs = new AtomicInteger();
+        List<CompletableFuture<Todo>> futures = new ArrayList<>();
+
+        // When: 저장 후 실패하는 작업을 포함하여 등록
+        for (int i = 0; i < 10; i++) {
+            int index = i;
+            futures.add(writePipeline.submit(() -> {
+                runs.incrementAndGet();
+                Todo todo = todoRepository.save(Todo.builder()
+                        .userId(USER_ID).title("제목" + index).description("내용").status(Status.PENDING).build());
+                if (index == 5) {
+                    throw new EntityNotFoundException("존재하지 않는 정보입니다.");
+                }
+                return todo;
+            }));
+        }
+        blocked.countDown();
+        blocker.get();
+
+        // Then
+        for (int i = 0; i < futures.size(); i++) {
+            if (i == 5) {
+                ExecutionException e = assertThrows(ExecutionException.class, futures.get(i)::get);
+                assertTrue(e.getCause() instanceof EntityNotFoundException);
+            } else {
+                assertNotNull(futures.get(i).get().getId());
+            }
+        }
+        assertEquals(10, runs.get());
+        assertEquals(9, todoRepository.count());
+        assertFalse(todoRepository.findAll().stream().anyMatch(todo -> "제목5".equals(todo.getTitle())));
+    }
+
+    @Test
+    void 커밋_대기_시간_초과시_503_및_작업_취소() throws Exception {
+        // Given: 쓰기 스레드가 앞선 작업에 막혀 있음
+        CountDownLatch blocked = new CountDownLatch(1);
+        CompletableFuture<Object> blocker = writePipeline.submit(() -> {
+            try {
+                blocked.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        AtomicInteger runs = new AtomicInteger();
+        ReflectionTestUtils.setField(writePipeline, "executeTimeoutMillis", 100L);
+
+        try {
+            // When & Then
+            ServiceUnavailableException e = assertThrows(ServiceUnavailableException.class,
+                    () -> writePipeline.execute(() -> todoRepository.save(Todo.builder()
+                            .userId(USER_ID).title("제목" + runs.incrementAndGet()).description("내용").status(Status.PENDING).build())));
+            assertEquals(1, e.getRetryAfterSeconds());
+        } finally {
+            ReflectionTestUtils.setField(writePipeline, "executeTimeoutMillis", 10000L);
+            blocked.countDown();
+        }
+        blocker.get();
+        writePipeline.execute(() -> null);
+
+        assertEquals(0, runs.get());
+        assertEquals(0, todoRepository.count());
+    }
+}
@@ -0,0 +1,110 @@
+package com.aladin.todo_api.todos;
+
+import com.aladin.todo_api.common.security.TokenProvider;
+import com.aladin.todo_api.todos.dto.TodoChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.server.LocalServerPort;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "todo.stream.sender-threads=1",
+        "todo.stream.send-timeout-ms=500",
+        "todo.stream.max-pending-events=1000"
+})
+class TodoChangeStreamTest {
+
+    @LocalServerPort private int port;
+    @Autowired private TodoChangeStream todoChangeStream;
+    @Autowired private TokenProvider tokenProvider;
+    @Autowired private MeterRegistry meterRegistry;
+
+    private static final String SLOW_USER_ID = "slowUser";
+    private static final String USER_ID = "aladinUser";
+
+    @Test
+    void 읽지_않는_연결이_있어도_다른_연결은_이벤트_수신() throws Exception {
+        // Given: 응답을 읽지 않는 연결과 정상 연결 (전송 스레드 1개)
+        double slowDisconnects = meterRegistry.counter("todo.stream.slow.disconnects").count();
+        Socket slow = new Socket();
+        slow.setReceiveBufferSize(1024);
+        slow.connect(new InetSocketAddress("localhost", port));
+        Socket healthy = new Socket("localhost", port);
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        try {
+            subscribe(slow, SLOW_USER_ID);
+            subscribe(healthy, USER_ID);
+            Thread reader = new Thread(() -> readLines(healthy, received));
+            reader.setDaemon(true);
+            reader.start();
+            assertNotNull(poll(received, ":connected"));
+
+            // When: 읽지 않는 연결에 소켓 버퍼를 넘는 이벤트를 보낸 후 정상 연결에 이벤트 전송
+            StringBuilder description = new StringBuilder();
+            for (int i = 0; i < 32 * 1024; i++) {
+                description.append('가');
+            }
+            Todo todo = Todo.builder().id(1L).userId(SLOW_USER_ID).title("제목").description(description.toString())
+                    .status(Status.PENDING).build();
+            for (int i = 0; i < 300; i++) {
+                todoChangeStream.publish(SLOW_USER_ID, TodoChangeEvent.modified(todo));
+            }
+            todoChangeStream.publish(USER_ID, TodoChangeEvent.deleted(42L));
+
+            // Then: 막힌 연결은 send-timeout-ms 후 종료되고 정상 연결은 이벤트 수신
+            assertNotNull(poll(received, "\"id\":\"42\""));
+            assertEquals(slowDisconnects + 1, meterRegistry.counter("todo.stream.slow.disconnects").count());
+            assertEquals(1, todoChangeStream.getConnectionCount());
+        } finally {
+            slow.close();
+            healthy.close();
+        }
+    }
+
+    private void subscribe(Socket socket, String userId) throws IOException {
+        OutputStream out = socket.getOutputStream();
+        out.write(("GET /todos/stream HTTP/1.1\r\n"
+                + "Host: localhost\r\n"
+                + "Accept: text/event-stream\r\n"
+                + "Authorization: Bearer " + tokenProvider.generateToken(userId) + "\r\n\r\n")
+                .getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private void readLines(Socket socket, BlockingQueue<String> received) {
+        try {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = in.readLine()) != null) {
+                received.add(line);
+            }
+        } catch (IOException e) {
+            // 테스트 종료
+        }
+    }
+
+    private String poll(BlockingQueue<String> received, String expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        String line;
+        while ((line = received.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) != null) {
+            if (line.contains(expected)) {
+                return line;
+            }
+        }
+        return null;
+    }
+}
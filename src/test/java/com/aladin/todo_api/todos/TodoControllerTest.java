@@ -1,7 +1,10 @@
 package com.aladin.todo_api.todos;
 
+import com.aladin.todo_api.common.exception.ServiceUnavailableException;
 import com.aladin.todo_api.common.security.TokenProvider;
+import com.aladin.todo_api.todos.dto.TodoBulkDto;
 import com.aladin.todo_api.todos.dto.TodoDto;
+import com.aladin.todo_api.todos.dto.TodoModifyDto;
 import com.aladin.todo_api.todos.dto.TodoSearchDto;
 import com.aladin.todo_api.users.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,10 +14,26 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -26,6 +45,8 @@ public class TodoControllerTest {
     @Autowired private TokenProvider tokenProvider;
     @Autowired private TodoRepository todoRepository;
     @Autowired private UserRepository userRepository;
+    @Autowired private TodoListCache todoListCache;
+    @Autowired private TodoService todoService;
 
     private static final String USER_ID = "aladinUser";
 
@@ -33,6 +54,7 @@ public class TodoControllerTest {
     void setUp() {
         todoRepository.deleteAll();
         userRepository.deleteAll();
+        todoListCache.clear();
     }
 
     private String generateToken() {
@@ -66,12 +88,48 @@ public class TodoControllerTest {
                         .content(objectMapper.writeValueAsString(dto)))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("등록에 성공하였습니다."))
+                .andExpect(jsonPath("$.data.id").isString())
                 .andExpect(jsonPath("$.data.userId").value(USER_ID))
                 .andExpect(jsonPath("$.data.title").value("제목"))
                 .andExpect(jsonPath("$.data.description").value("내용"))
                 .andExpect(jsonPath("$.data.status").value("IN_PROGRESS"));
     }
 
+    @Test
+    void 할일_일괄등록_성공() throws Exception {
+        // Given
+        String token = generateToken();
+        List<TodoDto> dtos = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            dtos.add(TodoDto.builder().title("제목" + i).description("내용" + i).status("PENDING").build());
+        }
+
+        // When & Then
+        mockMvc.perform(post("/todos/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dtos)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("일괄 등록에 성공하였습니다."))
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0]").isString());
+        assertEquals(3, todoRepository.count());
+    }
+
+    @Test
+    void 할일_일괄등록_실패_빈목록_400() throws Exception {
+        // Given
+        String token = generateToken();
+
+        // When & Then
+        mockMvc.perform(post("/todos/batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("등록할 할일이 없습니다."));
+    }
+
     @Test
     void 할일_목록조회_성공() throws Exception {
         // Given
@@ -88,6 +146,114 @@ public class TodoControllerTest {
                 .andExpect(jsonPath("$.data.content[0].status").value("IN_PROGRESS"));
     }
 
+    @Test
+    void 할일_목록조회_캐시_등록시_무효화() throws Exception {
+        // Given
+        String token = generateToken();
+        createTodo("제목1", "내용1", Status.PENDING);
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.data.content.length()").value(1));
+        long hitCount = todoListCache.getHitCount();
+
+        // When: 캐시된 목록 재조회 후 API로 등록
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.data.content.length()").value(1));
+        TodoDto dto = TodoDto.builder().title("제목2").description("내용2").status("PENDING").build();
+        mockMvc.perform(post("/todos")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].title").value("제목2"))
+                .andExpect(jsonPath("$.data.totalElements").value(2));
+        assertEquals(hitCount + 1, todoListCache.getHitCount());
+    }
+
+    @Test
+    void 할일_목록조회_커서_페이지네이션_성공() throws Exception {
+        // Given
+        String token = generateToken();
+        createTodo("제목1", "내용1", Status.PENDING);
+        createTodo("제목2", "내용2", Status.PENDING);
+        createTodo("제목3", "내용3", Status.PENDING);
+
+        // When & Then: 첫 페이지
+        String body = mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token)
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].title").value("제목3"))
+                .andExpect(jsonPath("$.data.content[1].title").value("제목2"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(body).path("data").path("nextCursor").asText();
+
+        // When & Then: 다음 페이지
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token)
+                        .param("after", nextCursor)
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].title").value("제목1"))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    @Test
+    void 할일_목록조회_실패_잘못된_커서_400() throws Exception {
+        // Given
+        String token = generateToken();
+
+        // When & Then
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token)
+                        .param("after", "잘못된커서"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("잘못된 커서입니다."));
+    }
+
+    @Test
+    void 할일_요약조회_등록_수정_삭제_반영() throws Exception {
+        // Given
+        String token = generateToken();
+        Todo todo1 = createTodo("제목1", "내용1", Status.PENDING);
+        Todo todo2 = createTodo("제목2", "내용2", Status.PENDING);
+        createTodo("제목3", "내용3", Status.IN_PROGRESS);
+
+        // When: 상태 변경 1건, 삭제 1건
+        TodoModifyDto dto = TodoModifyDto.builder().status("COMPLETED").build();
+        mockMvc.perform(put("/todos/" + todo1.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/todos/" + todo2.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/todos/summary")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("요약 조회에 성공하였습니다."))
+                .andExpect(jsonPath("$.data.pending").value(0))
+                .andExpect(jsonPath("$.data.inProgress").value(1))
+                .andExpect(jsonPath("$.data.completed").value(1))
+                .andExpect(jsonPath("$.data.total").value(2));
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.data.totalElements").value(2));
+    }
+
     @Test
     void 할일_단건조회_성공() throws Exception {
         // Given
@@ -104,6 +270,65 @@ public class TodoControllerTest {
                 .andExpect(jsonPath("$.data.status").value("IN_PROGRESS"));
     }
 
+    @Test
+    void 할일_단건조회_ETag_일치시_304() throws Exception {
+        // Given
+        String token = generateToken();
+        Todo todo = createTodo("제목", "내용", Status.PENDING);
+        String etag = mockMvc.perform(get("/todos/" + todo.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/todos/" + todo.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        TodoModifyDto dto = TodoModifyDto.builder().title("수정된 제목").build();
+        mockMvc.perform(put("/todos/" + todo.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/todos/" + todo.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("수정된 제목"));
+    }
+
+    @Test
+    void 할일_목록조회_ETag_일치시_304() throws Exception {
+        // Given
+        String token = generateToken();
+        createTodo("제목1", "내용1", Status.PENDING);
+        String etag = mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        // When & Then
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        TodoDto dto = TodoDto.builder().title("제목2").description("내용2").status("PENDING").build();
+        mockMvc.perform(post("/todos")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", "Bearer " + token)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(2));
+    }
+
     @Test
     void 할일_수정_성공() throws Exception {
         // Given
@@ -128,6 +353,41 @@ public class TodoControllerTest {
                 .andExpect(jsonPath("$.data.status").value("COMPLETED"));
     }
 
+    @Test
+    void 할일_부분수정_나머지_값_유지() throws Exception {
+        // Given
+        String token = generateToken();
+        Todo todo = createTodo("제목", "내용", Status.IN_PROGRESS);
+        TodoModifyDto dto = TodoModifyDto.builder().title("수정된 제목").description(" ").build();
+
+        // When & Then
+        mockMvc.perform(put("/todos/" + todo.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.title").value("수정된 제목"))
+                .andExpect(jsonPath("$.data.description").value("내용"))
+                .andExpect(jsonPath("$.data.status").value("IN_PROGRESS"))
+                .andExpect(jsonPath("$.data.createdAt").isNotEmpty());
+    }
+
+    @Test
+    void 할일_수정_실패_다른_사용자_404() throws Exception {
+        // Given
+        Todo todo = createTodo("제목", "내용", Status.PENDING);
+        String otherToken = tokenProvider.generateToken("otherUser");
+        TodoModifyDto dto = TodoModifyDto.builder().title("수정된 제목").build();
+
+        // When & Then
+        mockMvc.perform(put("/todos/" + todo.getId())
+                        .header("Authorization", "Bearer " + otherToken)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isNotFound());
+        assertEquals("제목", todoRepository.findById(todo.getId()).get().getTitle());
+    }
+
     @Test
     void 할일_삭제_성공() throws Exception {
         // Given
@@ -144,6 +404,437 @@ public class TodoControllerTest {
                 .andExpect(jsonPath("$.data.status").value("IN_PROGRESS"));
     }
 
+    @Test
+    void 할일_변경내역_조회_수정_삭제_반영() throws Exception {
+        // Given: 처음 동기화
+        String token = generateToken();
+        Todo todo1 = createTodo("제목1", "내용1", Status.PENDING);
+        Todo todo2 = createTodo("제목2", "내용2", Status.PENDING);
+        String first = mockMvc.perform(get("/todos/changes")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].type").value("modified"))
+                .andExpect(jsonPath("$.data.content[0].todo.title").value("제목1"))
+                .andExpect(jsonPath("$.data.content[1].id").value(String.valueOf(todo2.getId())))
+                .andExpect(jsonPath("$.data.hasNext").value(false))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String cursor = objectMapper.readTree(first).get("data").get("nextCursor").asText();
+
+        // When
+        mockMvc.perform(put("/todos/" + todo1.getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(TodoModifyDto.builder().status("COMPLETED").build())))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/todos/" + todo2.getId())
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Then: 커서 이후 변경만 조회
+        String delta = mockMvc.perform(get("/todos/changes")
+                        .param("since", cursor)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].type").value("modified"))
+                .andExpect(jsonPath("$.data.content[0].todo.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.content[1].type").value("deleted"))
+                .andExpect(jsonPath("$.data.content[1].id").value(String.valueOf(todo2.getId())))
+                .andExpect(jsonPath("$.data.content[1].todo").doesNotExist())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String next = objectMapper.readTree(delta).get("data").get("nextCursor").asText();
+
+        mockMvc.perform(get("/todos/changes")
+                        .param("since", next)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("변경된 할일이 없습니다."))
+                .andExpect(jsonPath("$.data.nextCursor").value(next));
+    }
+
+    @Test
+    void 할일_변경내역_조회_페이지() throws Exception {
+        // Given
+        String token = generateToken();
+        createTodo("제목1", "내용1", Status.PENDING);
+        createTodo("제목2", "내용2", Status.PENDING);
+        Todo todo3 = createTodo("제목3", "내용3", Status.PENDING);
+        String first = mockMvc.perform(get("/todos/changes")
+                        .param("limit", "2")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String cursor = objectMapper.readTree(first).get("data").get("nextCursor").asText();
+
+        // When & Then
+        mockMvc.perform(get("/todos/changes")
+                        .param("since", cursor)
+                        .param("limit", "2")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].id").value(String.valueOf(todo3.getId())))
+                .andExpect(jsonPath("$.data.hasNext").value(false));
+    }
+
+    /*
+     * 변경 알림은 별도 스레드에서 전송되므로 이벤트가 도착할 때까지 대기
+     * */
+    private String awaitEvents(MvcResult result, String event, int count) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        while (body.split("event:" + event + "\n", -1).length - 1 < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        return body;
+    }
+
+    @Test
+    void 할일_변경_알림_수신() throws Exception {
+        // Given
+        String token = generateToken();
+        MvcResult stream = mockMvc.perform(get("/todos/stream")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        TodoDto dto = TodoDto.builder()
+                .title("알림 제목")
+                .description("내용")
+                .status("PENDING")
+                .build();
+
+        // When
+        String response = mockMvc.perform(post("/todos")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        long id = objectMapper.readTree(response).get("data").get("id").asLong();
+        mockMvc.perform(delete("/todos/" + id)
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        // Then
+        String body = awaitEvents(stream, "deleted", 1);
+        assertEquals("text/event-stream", stream.getResponse().getContentType().split(";")[0]);
+        assertTrue(body.indexOf("event:created") < body.indexOf("event:deleted"));
+        assertTrue(body.contains("\"title\":\"알림 제목\""));
+        assertTrue(body.contains("{\"type\":\"deleted\",\"id\":\"" + id + "\"}"));
+    }
+
+    @Test
+    void 할일_변경_알림_다른_사용자_제외() throws Exception {
+        // Given
+        String otherToken = tokenProvider.generateToken("otherUser");
+        MvcResult stream = mockMvc.perform(get("/todos/stream")
+                        .header("Authorization", "Bearer " + otherToken))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        TodoDto dto = TodoDto.builder()
+                .title("제목")
+                .description("내용")
+                .build();
+
+        // When: 다른 사용자의 할일 등록 후 본인의 할일 등록
+        for (String token : Arrays.asList(generateToken(), otherToken)) {
+            mockMvc.perform(post("/todos")
+                            .header("Authorization", "Bearer " + token)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isOk());
+        }
+
+        // Then: 본인의 이벤트만 수신 (전송 순서 보장)
+        String body = awaitEvents(stream, "created", 1);
+        assertEquals(1, body.split("event:created\n", -1).length - 1);
+        assertTrue(body.contains("\"userId\":\"otherUser\""));
+        assertTrue(!body.contains("\"userId\":\"" + USER_ID + "\""));
+    }
+
+    @Test
+    void 할일_상태_일괄수정_성공() throws Exception {
+        // Given
+        String token = generateToken();
+        createTodo("제목1", "내용1", Status.PENDING);
+        createTodo("제목2", "내용2", Status.IN_PROGRESS);
+        createTodo("제목3", "내용3", Status.PENDING);
+        TodoBulkDto dto = TodoBulkDto.builder().currentStatus("PENDING").status("COMPLETED").build();
+
+        // When & Then
+        mockMvc.perform(put("/todos/bulk")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("일괄 수정에 성공하였습니다."))
+                .andExpect(jsonPath("$.data").value(2));
+        assertEquals(2, todoRepository.findAll().stream().filter(t -> t.getStatus() == Status.COMPLETED).count());
+    }
+
+    @Test
+    void 할일_일괄삭제_성공() throws Exception {
+        // Given
+        String token = generateToken();
+        Todo todo1 = createTodo("제목1", "내용1", Status.COMPLETED);
+        Todo todo2 = createTodo("제목2", "내용2", Status.PENDING);
+        createTodo("제목3", "내용3", Status.COMPLETED);
+        TodoBulkDto dto = TodoBulkDto.builder()
+                .ids(Arrays.asList(todo1.getId(), todo2.getId()))
+                .currentStatus("COMPLETED")
+                .build();
+
+        // When & Then
+        mockMvc.perform(delete("/todos/bulk")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.message").value("일괄 삭제에 성공하였습니다."))
+                .andExpect(jsonPath("$.data").value(1));
+        assertEquals(2, todoRepository.count());
+    }
+
+    @Test
+    void 할일_일괄삭제_실패_잘못된_상태_400() throws Exception {
+        // Given
+        String token = generateToken();
+        createTodo("제목1", "내용1", Status.PENDING);
+        TodoBulkDto dto = TodoBulkDto.builder().currentStatus("DONE").build();
+
+        // When & Then
+        mockMvc.perform(delete("/todos/bulk")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("잘못된 상태값입니다."));
+        assertEquals(1, todoRepository.count());
+    }
+
+    @Test
+    void 할일_내보내기_NDJSON_성공() throws Exception {
+        // Given
+        String token = generateToken();
+        Todo todo1 = createTodo("제목1", "내용1", Status.PENDING);
+        Todo todo2 = createTodo("제목2", "내용2", Status.COMPLETED);
+        MvcResult result = mockMvc.perform(get("/todos/export")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When & Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"todos.ndjson\""))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(String.valueOf(todo2.getId()), objectMapper.readTree(lines[0]).get("id").textValue());
+        assertEquals("제목1", objectMapper.readTree(lines[1]).get("title").asText());
+        assertEquals(String.valueOf(todo1.getId()), objectMapper.readTree(lines[1]).get("id").textValue());
+    }
+
+    @Test
+    void 할일_내보내기_CSV_성공() throws Exception {
+        // Given
+        String token = generateToken();
+        Todo todo = createTodo("제목, \"따옴표\"", "내용", Status.IN_PROGRESS);
+        MvcResult result = mockMvc.perform(get("/todos/export")
+                        .param("format", "csv")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When & Then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        String[] lines = body.split("\r\n");
+        assertEquals("id,title,description,status,createdAt,updatedAt", lines[0]);
+        assertTrue(lines[1].startsWith(todo.getId() + ",\"제목, \"\"따옴표\"\"\",내용,IN_PROGRESS,"));
+    }
+
+    @Test
+    void 할일_내보내기_실패_잘못된_형식_400() throws Exception {
+        // Given
+        String token = generateToken();
+
+        // When & Then
+        mockMvc.perform(get("/todos/export")
+                        .param("format", "xml")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("지원하지 않는 내보내기 형식입니다."));
+    }
+
+    @Test
+    void 할일_내보내기_실패_동시_내보내기_초과_503() throws Exception {
+        // Given: 출력하지 않은 내보내기로 허가를 모두 사용
+        String token = generateToken();
+        Authentication authentication = new UsernamePasswordAuthenticationToken(USER_ID, null, Collections.emptyList());
+        List<StreamingResponseBody> bodies = new ArrayList<>();
+        try {
+            while (true) {
+                bodies.add(todoService.exportTodos(ExportFormat.NDJSON, authentication));
+            }
+        } catch (ServiceUnavailableException e) {
+            // 허가 소진
+        }
+
+        try {
+            // When & Then
+            mockMvc.perform(get("/todos/export")
+                            .header("Authorization", "Bearer " + token))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(header().string("Retry-After", "5"))
+                    .andExpect(jsonPath("$.message").value("내보내기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."));
+        } finally {
+            for (StreamingResponseBody body : bodies) {
+                body.writeTo(new ByteArrayOutputStream());
+            }
+        }
+
+        // 출력이 끝나면 허가 반환
+        mockMvc.perform(get("/todos/export")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void 할일_가져오기_NDJSON_성공() throws Exception {
+        // Given
+        String token = generateToken();
+        String body = "{\"title\":\"제목1\",\"description\":\"내용1\",\"status\":\"PENDING\"}\n" +
+                "{\"title\":\"제목2\"}\n" +
+                "잘못된 행\n" +
+                "{\"title\":\"제목3\",\"description\":\"내용3\",\"status\":\"COMPLETED\"}\n";
+        MvcResult result = mockMvc.perform(post("/todos/import")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/x-ndjson")
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        String[] events = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+
+        // Then
+        assertEquals(4, events.length);
+        assertEquals(2, objectMapper.readTree(events[0]).get("line").asInt());
+        assertEquals("내용은 필수 입력값입니다.", objectMapper.readTree(events[0]).get("message").asText());
+        assertEquals(3, objectMapper.readTree(events[1]).get("line").asInt());
+        assertEquals("chunk", objectMapper.readTree(events[2]).get("type").asText());
+        assertEquals("summary", objectMapper.readTree(events[3]).get("type").asText());
+        assertEquals(2, objectMapper.readTree(events[3]).get("imported").asInt());
+        assertEquals(2, objectMapper.readTree(events[3]).get("failed").asInt());
+        assertEquals(2, todoRepository.count());
+    }
+
+    @Test
+    void 할일_가져오기_NDJSON_객체가_아니거나_너무_긴_행은_행_오류() throws Exception {
+        // Given
+        String token = generateToken();
+        StringBuilder longTitle = new StringBuilder();
+        for (int i = 0; i < 70000; i++) {
+            longTitle.append('가');
+        }
+        String body = "{\"title\":\"제목1\",\"description\":\"내용1\",\"status\":\"PENDING\"}\n" +
+                "null\n" +
+                "[1, 2]\n" +
+                "{\"title\":\"" + longTitle + "\",\"description\":\"내용\"}\n" +
+                "{\"title\":\"제목2\",\"description\":\"내용2\",\"status\":\"COMPLETED\"}\n";
+        MvcResult result = mockMvc.perform(post("/todos/import")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/x-ndjson")
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        String[] events = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+
+        // Then
+        assertEquals(5, events.length);
+        assertEquals(2, objectMapper.readTree(events[0]).get("line").asInt());
+        assertEquals(3, objectMapper.readTree(events[1]).get("line").asInt());
+        assertEquals(4, objectMapper.readTree(events[2]).get("line").asInt());
+        assertEquals("행이 너무 깁니다. (최대 65536자)", objectMapper.readTree(events[2]).get("message").asText());
+        assertEquals("summary", objectMapper.readTree(events[4]).get("type").asText());
+        assertEquals(2, objectMapper.readTree(events[4]).get("imported").asInt());
+        assertEquals(3, objectMapper.readTree(events[4]).get("failed").asInt());
+        assertEquals(2, todoRepository.count());
+    }
+
+    @Test
+    void 할일_가져오기_CSV_너무_긴_행은_행_오류() throws Exception {
+        // Given
+        String token = generateToken();
+        StringBuilder longDescription = new StringBuilder();
+        for (int i = 0; i < 70000; i++) {
+            longDescription.append(i % 100 == 0 ? '\n' : '가');
+        }
+        String body = "title,description,status\r\n" +
+                "제목1,\"" + longDescription + "\",PENDING\r\n" +
+                "제목2,내용2,COMPLETED\r\n";
+        MvcResult result = mockMvc.perform(post("/todos/import")
+                        .param("format", "csv")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("text/csv")
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        String[] events = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+
+        // Then
+        assertEquals(2, objectMapper.readTree(events[0]).get("line").asInt());
+        assertEquals("행이 너무 깁니다. (최대 65536자)", objectMapper.readTree(events[0]).get("message").asText());
+        assertEquals(1, objectMapper.readTree(events[events.length - 1]).get("imported").asInt());
+        assertEquals(1, objectMapper.readTree(events[events.length - 1]).get("failed").asInt());
+        List<Todo> todos = todoRepository.findAll();
+        assertEquals(1, todos.size());
+        assertEquals("제목2", todos.get(0).getTitle());
+    }
+
+    @Test
+    void 할일_가져오기_CSV_성공() throws Exception {
+        // Given
+        String token = generateToken();
+        String body = "title,description,status\r\n" +
+                "\"제목, 쉼표\",\"여러 줄\n\"\"내용\"\"\",IN_PROGRESS\r\n" +
+                "제목2,내용2,\r\n";
+        MvcResult result = mockMvc.perform(post("/todos/import")
+                        .param("format", "csv")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("text/csv")
+                        .content(body.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        // Then
+        List<Todo> todos = todoRepository.findAll();
+        assertEquals(2, todos.size());
+        Todo todo = todos.stream().filter(t -> t.getStatus() == Status.IN_PROGRESS).findFirst().get();
+        assertEquals("제목, 쉼표", todo.getTitle());
+        assertEquals("여러 줄\n\"내용\"", todo.getDescription());
+    }
+
     @Test
     void 할일_검색_성공() throws Exception {
         // Given
@@ -167,6 +858,86 @@ public class TodoControllerTest {
                 .andExpect(jsonPath("$.data.content[0].title").value("제목2"));
     }
 
+    @Test
+    void 할일_검색_커서_지정시_커서_기반_응답() throws Exception {
+        // Given
+        String token = generateToken();
+        for (int i = 1; i <= 12; i++) {
+            createTodo("장보기 목록" + i, "내용" + i, Status.PENDING);
+        }
+
+        // When & Then: 커서 없이 검색하면 전체 건수를 포함한 페이지 응답
+        mockMvc.perform(get("/todos/search")
+                        .header("Authorization", "Bearer " + token)
+                        .param("searchWord", "장보기"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalElements").value(12))
+                .andExpect(jsonPath("$.data.content.length()").value(10));
+
+        // When & Then: limit 지정 시 커서 기반 응답
+        mockMvc.perform(get("/todos/search")
+                        .header("Authorization", "Bearer " + token)
+                        .param("searchWord", "장보기")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].title").value("장보기 목록12"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.data.nextCursor").exists());
+    }
+
+    @Test
+    void 할일_검색_전문검색_인덱스_성공() throws Exception {
+        // Given
+        String token = generateToken();
+        createTodo("장보기 목록", "우유와 계란", Status.PENDING);
+        createTodo("회의 준비", "장보기 목록 공유", Status.PENDING);
+
+        // When & Then: 제목 검색
+        mockMvc.perform(get("/todos/search")
+                        .header("Authorization", "Bearer " + token)
+                        .param("searchType", "TITLE")
+                        .param("searchWord", "장보기"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(1))
+                .andExpect(jsonPath("$.data.content[0].title").value("장보기 목록"));
+
+        // When & Then: 전체 검색
+        mockMvc.perform(get("/todos/search")
+                        .header("Authorization", "Bearer " + token)
+                        .param("searchType", "ALL")
+                        .param("searchWord", "장보기"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(2))
+                .andExpect(jsonPath("$.data.content[0].title").value("회의 준비"));
+    }
+
+    @Test
+    void 할일_검색_수정_삭제_인덱스_반영() throws Exception {
+        // Given
+        String token = generateToken();
+        Todo todo = createTodo("운동하기", "헬스장 가기", Status.PENDING);
+        Todo deleted = createTodo("운동 계획", "헬스장 등록", Status.PENDING);
+        todo.setDescription("수영장 가기");
+        todoRepository.save(todo);
+        todoRepository.delete(deleted);
+
+        // When & Then
+        mockMvc.perform(get("/todos/search")
+                        .header("Authorization", "Bearer " + token)
+                        .param("searchType", "DESCRIPTION")
+                        .param("searchWord", "헬스장"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content.length()").value(0));
+
+        mockMvc.perform(get("/todos/search")
+                        .header("Authorization", "Bearer " + token)
+                        .param("searchType", "DESCRIPTION")
+                        .param("searchWord", "수영장"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.content[0].title").value("운동하기"));
+    }
+
     @Test
     void 할일_검색_실패_잘못된_검색타입() throws Exception {
         // Given
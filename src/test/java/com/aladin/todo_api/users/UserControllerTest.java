@@ -6,6 +6,8 @@ import com.aladin.todo_api.users.dto.ModifyDto;
 import com.aladin.todo_api.users.dto.PasswordDto;
 import com.aladin.todo_api.users.dto.SignupDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,7 +17,11 @@ import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
+import javax.persistence.EntityManagerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -28,6 +34,7 @@ public class UserControllerTest {
     @Autowired private TokenProvider tokenProvider;
     @Autowired private UserRepository userRepository;
     @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private EntityManagerFactory entityManagerFactory;
 
     private static final String USER_ID = "aladinUser";
 
@@ -174,6 +181,49 @@ public class UserControllerTest {
                 .andExpect(jsonPath("$.data.username").value("자스민"));
     }
 
+    @Test
+    void 사용자_정보조회_2차_캐시_적중() throws Exception {
+        // Given: 한 번 조회하여 캐시에 적재
+        String token = generateToken(USER_ID);
+        mockMvc.perform(get("/users/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long hits = statistics.getSecondLevelCacheHitCount();
+        long statements = statistics.getPrepareStatementCount();
+
+        // When: 다시 조회
+        mockMvc.perform(get("/users/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.userId").value(USER_ID));
+
+        // Then: DB 조회 없이 캐시 적중
+        assertEquals(hits + 1, statistics.getSecondLevelCacheHitCount());
+        assertEquals(statements, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void 사용자_정보수정_후_조회시_변경값_반환() throws Exception {
+        // Given: 캐시에 적재된 사용자 정보 변경
+        String token = generateToken(USER_ID);
+        mockMvc.perform(get("/users/me").header("Authorization", "Bearer " + token))
+                .andExpect(jsonPath("$.data.username").value("알라딘"));
+
+        ModifyDto dto = ModifyDto.builder()
+                .password("Password1!")
+                .username("자스민")
+                .build();
+        mockMvc.perform(put("/users/me")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk());
+
+        // When & Then
+        mockMvc.perform(get("/users/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.username").value("자스민"));
+    }
+
     @Test
     void 사용자_정보수정_실패_비밀번호불일치() throws Exception {
         // Given: accessToken 및 잘못된 비밀번호 입력
@@ -215,5 +265,54 @@ public class UserControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.message").value("회원 탈퇴에 성공했습니다."))
                 .andExpect(jsonPath("$.data.userId").value(USER_ID));
+
+        // 탈퇴 후 캐시에 남아있지 않음
+        mockMvc.perform(get("/users/me")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void 로그인_요청_제한_초과시_429() throws Exception {
+        // Given: 사용자 ID별 허용 횟수(10회)만큼 로그인 실패
+        LoginDto dto = LoginDto.builder()
+                .userId("limitedUser")
+                .password("Password1!")
+                .build();
+        for (int i = 1; i <= 10; i++) {
+            String remoteAddress = "10.0.0." + i; // 접속 주소 제한과 구분하기 위해 매번 다른 주소 사용
+            mockMvc.perform(post("/users/login")
+                            .with(request -> { request.setRemoteAddr(remoteAddress); return request; })
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(dto)))
+                    .andExpect(status().isNotFound());
+        }
+
+        // When & Then
+        mockMvc.perform(post("/users/login")
+                        .with(request -> { request.setRemoteAddr("10.0.1.1"); return request; })
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(header().string("X-RateLimit-Remaining", "0"))
+                .andExpect(jsonPath("$.message").value("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요."));
+    }
+
+    @Test
+    void 로그인_요청_본문_최대크기_초과시_413() throws Exception {
+        // Given: 공백으로 16KB 를 넘긴 본문
+        StringBuilder padding = new StringBuilder();
+        for (int i = 0; i < 17 * 1024; i++) {
+            padding.append(' ');
+        }
+        String body = "{\"userId\":\"limitedUser\",\"password\":\"Password1!\"" + padding + "}";
+
+        // When & Then
+        mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.message").value("요청 본문이 너무 큽니다."));
     }
 }